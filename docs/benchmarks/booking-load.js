@@ -0,0 +1,57 @@
+// k6 load test for the booking hot path: seat map reads plus reservation attempts
+// against one show. Most reservations collide on purpose; the point is to measure
+// throughput and tail latency under contention, not successful bookings.
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e SHOW_ID=1 -e VUS=10000 docs/benchmarks/booking-load.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const SHOW_ID = Number(__ENV.SHOW_ID || 1);
+const USER_COUNT = Number(__ENV.USER_COUNT || 5);
+const SECTIONS = (__ENV.SECTIONS || 'A').split(',');
+const ROWS = Number(__ENV.ROWS || 1);
+const SEATS_PER_ROW = Number(__ENV.SEATS_PER_ROW || 20);
+const VUS = Number(__ENV.VUS || 10000);
+
+export const options = {
+    scenarios: {
+        booking: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: __ENV.RAMP || '30s', target: VUS },
+                { duration: __ENV.HOLD || '2m', target: VUS },
+                { duration: '15s', target: 0 },
+            ],
+            gracefulRampDown: '10s',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+function randomSeat() {
+    return {
+        section: SECTIONS[Math.floor(Math.random() * SECTIONS.length)],
+        row: 'R' + (1 + Math.floor(Math.random() * ROWS)),
+        seatNumber: String(1 + Math.floor(Math.random() * SEATS_PER_ROW)),
+    };
+}
+
+export default function () {
+    const headers = {
+        'Content-Type': 'application/json',
+        'X-User-ID': String(1 + Math.floor(Math.random() * USER_COUNT)),
+    };
+
+    if (Math.random() < 0.5) {
+        const res = http.get(`${BASE_URL}/api/v1/user/show/${SHOW_ID}/seats`, { headers, tags: { name: 'seats' } });
+        check(res, { 'seat map 200': (r) => r.status === 200 });
+        return;
+    }
+
+    const body = JSON.stringify({ showId: SHOW_ID, seats: [randomSeat(), randomSeat()] });
+    const res = http.post(`${BASE_URL}/api/v1/user/booking`, body, { headers, tags: { name: 'reserve' } });
+    // 400 is an expected outcome here (seat taken or held by another client)
+    check(res, { 'reservation answered': (r) => r.status === 200 || r.status === 400 });
+}
@@ -0,0 +1,99 @@
+package com.chaitanya.evently.config;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Gradient-style adaptive concurrency limit. Each sampled request's latency is
+ * compared with a slow-moving average: while latency stays within the
+ * tolerance the limit grows by about sqrt(limit) per sample, and once it rises
+ * above it the limit shrinks in proportion (never by more than half per
+ * sample). Growth stops while fewer than half the permits are in use, so a
+ * quiet period does not leave a limit nothing has tested.
+ *
+ * Callers acquire against a share of the limit, which lets lower-priority
+ * traffic be shed first while higher-priority traffic still has headroom.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private final double smoothing;
+    private final double longRttFactor;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private volatile double limit;
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double rttTolerance,
+            double smoothing, int longRttWindow) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.rttTolerance = rttTolerance;
+        this.smoothing = smoothing;
+        this.longRttFactor = 2.0 / (longRttWindow + 1);
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Takes a permit if fewer than share * limit requests are in flight.
+     * Returns the number in flight before this one, or -1 when rejected.
+     */
+    public int tryAcquire(double share) {
+        int allowed = Math.max(1, (int) (limit * share));
+        while (true) {
+            int current = inflight.get();
+            if (current >= allowed) {
+                return -1;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return current;
+            }
+        }
+    }
+
+    public void release() {
+        inflight.decrementAndGet();
+    }
+
+    /**
+     * Feeds one request's latency, with the number in flight when it started.
+     */
+    public synchronized void onSample(long rttNanos, int inflightAtStart) {
+        if (rttNanos <= 0) {
+            return;
+        }
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+        } else {
+            longRttNanos += (rttNanos - longRttNanos) * longRttFactor;
+        }
+        // After a slow spell the average lags far behind; pull it back so recovery is not held down
+        if (longRttNanos > 2 * rttNanos) {
+            longRttNanos *= 0.95;
+        }
+
+        double current = limit;
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, rttTolerance * longRttNanos / rttNanos));
+        double target = current * gradient + Math.sqrt(current);
+        double next = current * (1 - smoothing) + target * smoothing;
+        if (next > current && inflightAtStart < current / 2) {
+            return;
+        }
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    public synchronized double getLongRttNanos() {
+        return longRttNanos;
+    }
+}
@@ -0,0 +1,152 @@
+package com.chaitanya.evently.config;
+
+import com.chaitanya.evently.exception.types.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Sheds user traffic with 503 once the adaptive concurrency limit is reached.
+ * The limit is learned from the latency of successful booking and payment
+ * requests only, since those are the requests that queue on Postgres. Payment
+ * confirmation may use the whole limit, new reservations and cancellations a
+ * smaller share and browsing the smallest, so browsing is shed first and a
+ * held reservation is the last thing turned away.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    private static final String BOOKING_PATH = "/api/v1/user/booking";
+    private static final String PAYMENT_PATH = "/api/v1/user/booking/payment";
+    private static final String CANCEL_PATH = "/api/v1/user/booking/cancel";
+
+    private static final String PERMIT_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".permit";
+
+    private enum Priority {
+        PAYMENT, RESERVATION, BROWSE
+    }
+
+    private record Permit(Priority priority, long startNanos, int inflightAtStart) {
+    }
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.concurrency-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.concurrency-limit.initial-limit:20}")
+    private int initialLimit;
+
+    @Value("${app.concurrency-limit.min-limit:4}")
+    private int minLimit;
+
+    @Value("${app.concurrency-limit.max-limit:200}")
+    private int maxLimit;
+
+    @Value("${app.concurrency-limit.rtt-tolerance:1.5}")
+    private double rttTolerance;
+
+    @Value("${app.concurrency-limit.smoothing:0.2}")
+    private double smoothing;
+
+    @Value("${app.concurrency-limit.long-rtt-window:600}")
+    private int longRttWindow;
+
+    @Value("${app.concurrency-limit.reservation-share:0.8}")
+    private double reservationShare;
+
+    @Value("${app.concurrency-limit.browse-share:0.5}")
+    private double browseShare;
+
+    @Value("${app.concurrency-limit.retry-after-seconds:1}")
+    private long retryAfterSeconds;
+
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @PostConstruct
+    public void init() {
+        limiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, rttTolerance, smoothing,
+                longRttWindow);
+        Gauge.builder("booking.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit for user traffic")
+                .register(meterRegistry);
+        Gauge.builder("booking.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInflight)
+                .description("User requests currently holding a concurrency permit")
+                .register(meterRegistry);
+        Gauge.builder("booking.concurrency.rtt.long", limiter, l -> l.getLongRttNanos() / 1_000_000)
+                .description("Long-term average booking and payment latency the limit is measured against")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull Object handler) {
+        if (!enabled) {
+            return true;
+        }
+
+        Priority priority = classify(request);
+        int inflightAtStart = limiter.tryAcquire(share(priority));
+        if (inflightAtStart < 0) {
+            Counter.builder("booking.concurrency.shed")
+                    .description("User requests rejected by the adaptive concurrency limit")
+                    .tag("priority", priority.name().toLowerCase())
+                    .register(meterRegistry)
+                    .increment();
+            log.debug("Shedding {} {} ({}): limit {} reached", request.getMethod(), request.getRequestURI(),
+                    priority, limiter.getLimit());
+            throw new ServiceUnavailableException("Server is busy, please retry shortly", retryAfterSeconds);
+        }
+
+        request.setAttribute(PERMIT_ATTRIBUTE, new Permit(priority, System.nanoTime(), inflightAtStart));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull Object handler, @Nullable Exception ex) {
+        if (!(request.getAttribute(PERMIT_ATTRIBUTE) instanceof Permit permit)) {
+            return;
+        }
+        request.removeAttribute(PERMIT_ATTRIBUTE);
+        limiter.release();
+        // Rejections (rate limited, sold out, invalid) return in microseconds and would drag the baseline down
+        if (permit.priority() != Priority.BROWSE && ex == null && response.getStatus() < 400) {
+            limiter.onSample(System.nanoTime() - permit.startNanos(), permit.inflightAtStart());
+        }
+    }
+
+    private static Priority classify(HttpServletRequest request) {
+        String method = request.getMethod();
+        String uri = request.getRequestURI();
+        if ("POST".equals(method) && PAYMENT_PATH.equals(uri)) {
+            return Priority.PAYMENT;
+        }
+        if (("POST".equals(method) && BOOKING_PATH.equals(uri))
+                || ("DELETE".equals(method) && CANCEL_PATH.equals(uri))) {
+            return Priority.RESERVATION;
+        }
+        return Priority.BROWSE;
+    }
+
+    private double share(Priority priority) {
+        return switch (priority) {
+            case PAYMENT -> 1.0;
+            case RESERVATION -> reservationShare;
+            case BROWSE -> browseShare;
+        };
+    }
+}
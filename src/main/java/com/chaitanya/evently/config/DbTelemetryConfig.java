@@ -0,0 +1,38 @@
+package com.chaitanya.evently.config;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application DataSource in a datasource-proxy so every statement
+ * and connection checkout is attributed to the request that caused it. With
+ * replica routing the wrapped bean is the lazy proxy, so hold time runs from
+ * the logical checkout and is an upper bound on physical pool usage.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.db-telemetry.enabled", havingValue = "true", matchIfMissing = true)
+public class DbTelemetryConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor dbTelemetryDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+                if (bean instanceof DataSource dataSource && DATA_SOURCE_BEAN.equals(beanName)) {
+                    return ProxyDataSourceBuilder.create("evently", dataSource)
+                            .listener(new DbTelemetryListener())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,102 @@
+package com.chaitanya.evently.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Publishes per-request statement count, JDBC time and connection hold time,
+ * tagged by route, and logs requests over the configured limits with their
+ * most expensive SQL fingerprints. Wraps the whole chain so hold time includes
+ * response serialization. Work done after an async hand-off (streaming
+ * exports) is not attributed.
+ */
+@Component
+// Just inside CorrelationIdFilter so heavy-request logs carry the correlation id
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(name = "app.db-telemetry.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class DbTelemetryFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_ROUTE = "UNKNOWN";
+    private static final int LOGGED_FINGERPRINTS = 5;
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.db-telemetry.slow-statement-count:20}")
+    private int slowStatementCount;
+
+    @Value("${app.db-telemetry.slow-db-time-ms:200}")
+    private long slowDbTimeMs;
+
+    @Value("${app.db-telemetry.slow-hold-time-ms:500}")
+    private long slowHoldTimeMs;
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        RequestDbStats stats = RequestDbStats.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestDbStats.clear();
+            stats.finish(System.nanoTime());
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestDbStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = pattern != null ? pattern.toString() : UNKNOWN_ROUTE;
+        String method = request.getMethod();
+
+        DistributionSummary.builder("db.request.statements")
+                .description("JDBC statements executed per request")
+                .tags("uri", route, "method", method)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        Timer.builder("db.request.time")
+                .description("Time spent executing JDBC statements per request")
+                .tags("uri", route, "method", method)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getDbNanos(), TimeUnit.NANOSECONDS);
+        Timer.builder("db.request.connection.hold")
+                .description("Time database connections were held per request")
+                .tags("uri", route, "method", method)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getHoldNanos(), TimeUnit.NANOSECONDS);
+
+        long dbMs = TimeUnit.NANOSECONDS.toMillis(stats.getDbNanos());
+        long holdMs = TimeUnit.NANOSECONDS.toMillis(stats.getHoldNanos());
+        if (stats.getStatements() >= slowStatementCount || dbMs >= slowDbTimeMs || holdMs >= slowHoldTimeMs) {
+            String top = stats.topFingerprints(LOGGED_FINGERPRINTS).stream()
+                    .map(f -> String.format("%dx %dms %s", f.getCount(), TimeUnit.NANOSECONDS.toMillis(f.getNanos()),
+                            f.getSql()))
+                    .collect(Collectors.joining(" | "));
+            log.warn("Heavy DB request {} {}: {} statements, {} ms in DB, {} connection(s) held {} ms; top: {}",
+                    method, route, stats.getStatements(), dbMs, stats.getConnections(), holdMs, top);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.chaitanya.evently.config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.lifecycle.JdbcLifecycleEventListenerAdapter;
+
+import java.sql.Connection;
+import java.util.List;
+
+/**
+ * Feeds JDBC activity on the proxied DataSource into the current request's
+ * RequestDbStats. Covers Hibernate, Spring Data and JdbcTemplate alike.
+ */
+public class DbTelemetryListener extends JdbcLifecycleEventListenerAdapter {
+
+    private static final String STARTED_AT = "evently.startedAt";
+
+    @Override
+    public void afterGetConnection(MethodExecutionContext executionContext) {
+        RequestDbStats stats = RequestDbStats.current();
+        if (stats != null && executionContext.getThrown() == null && executionContext.getConnectionInfo() != null) {
+            stats.connectionAcquired(executionContext.getConnectionInfo().getConnectionId(), System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterClose(MethodExecutionContext executionContext) {
+        // close() is reported for statements and result sets too
+        RequestDbStats stats = RequestDbStats.current();
+        if (stats != null && executionContext.getTarget() instanceof Connection
+                && executionContext.getConnectionInfo() != null) {
+            stats.connectionReleased(executionContext.getConnectionInfo().getConnectionId(), System.nanoTime());
+        }
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (RequestDbStats.current() != null) {
+            execInfo.addCustomValue(STARTED_AT, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestDbStats stats = RequestDbStats.current();
+        Long startedAt = execInfo.getCustomValue(STARTED_AT, Long.class);
+        if (stats == null || startedAt == null) {
+            return;
+        }
+        stats.statementExecuted(queryInfoList.stream().map(QueryInfo::getQuery).toList(),
+                System.nanoTime() - startedAt);
+    }
+}
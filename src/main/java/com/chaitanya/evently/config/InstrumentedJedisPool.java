@@ -0,0 +1,75 @@
+package com.chaitanya.evently.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisPoolConfig;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JedisPool that times every borrow and counts borrows that gave up waiting,
+ * next to gauges for active, idle and waiting callers. Tagged pool=redis.
+ */
+public class InstrumentedJedisPool extends JedisPool {
+
+    private static final String POOL_TAG = "pool";
+    private static final String POOL_NAME = "redis";
+
+    private final Timer borrowTimer;
+    private final Counter borrowTimeouts;
+
+    public InstrumentedJedisPool(JedisPoolConfig poolConfig, String host, int port, int timeout, String password,
+            int database, MeterRegistry meterRegistry) {
+        super(poolConfig, host, port, timeout, password, database);
+
+        borrowTimer = Timer.builder("redis.pool.borrow")
+                .description("Time spent waiting for a Redis connection")
+                .tag(POOL_TAG, POOL_NAME)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        borrowTimeouts = Counter.builder("redis.pool.borrow.timeouts")
+                .description("Borrows that gave up after max-wait")
+                .tag(POOL_TAG, POOL_NAME)
+                .register(meterRegistry);
+
+        Gauge.builder("redis.pool.active", this, JedisPool::getNumActive)
+                .tag(POOL_TAG, POOL_NAME)
+                .register(meterRegistry);
+        Gauge.builder("redis.pool.idle", this, JedisPool::getNumIdle)
+                .tag(POOL_TAG, POOL_NAME)
+                .register(meterRegistry);
+        Gauge.builder("redis.pool.pending", this, JedisPool::getNumWaiters)
+                .description("Callers waiting for a connection")
+                .tag(POOL_TAG, POOL_NAME)
+                .register(meterRegistry);
+        Gauge.builder("redis.pool.max", this, JedisPool::getMaxTotal)
+                .tag(POOL_TAG, POOL_NAME)
+                .register(meterRegistry);
+        FunctionCounter.builder("redis.pool.evicted", this, JedisPool::getDestroyedByEvictorCount)
+                .description("Connections closed by the idle evictor, including failed validations")
+                .tag(POOL_TAG, POOL_NAME)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Jedis getResource() {
+        long start = System.nanoTime();
+        try {
+            return super.getResource();
+        } catch (JedisException e) {
+            if (e.getCause() instanceof NoSuchElementException) {
+                borrowTimeouts.increment();
+            }
+            throw e;
+        } finally {
+            borrowTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
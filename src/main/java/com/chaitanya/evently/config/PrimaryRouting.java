@@ -0,0 +1,38 @@
+package com.chaitanya.evently.config;
+
+import java.util.function.Supplier;
+
+/**
+ * Routing hint that keeps reads on the primary even inside read-only
+ * transactions, for paths that must see their own or other nodes' latest
+ * writes. Only affects connections checked out while the action runs, so it
+ * must wrap the first statement of the transaction. No effect without replicas.
+ */
+public final class PrimaryRouting {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private PrimaryRouting() {
+    }
+
+    /**
+     * Runs the action with every connection it checks out routed to the primary
+     */
+    public static <T> T call(Supplier<T> action) {
+        Boolean previous = PINNED.get();
+        PINNED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                PINNED.remove();
+            } else {
+                PINNED.set(previous);
+            }
+        }
+    }
+
+    public static boolean isPinned() {
+        return PINNED.get() != null;
+    }
+}
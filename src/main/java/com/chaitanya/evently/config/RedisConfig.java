@@ -4,6 +4,7 @@ package com.chaitanya.evently.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,6 +12,7 @@ import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
 
 import java.net.URI;
+import java.time.Duration;
 
 @Configuration
 public class RedisConfig {
@@ -21,8 +23,26 @@ public class RedisConfig {
     @Value("${spring.data.redis.timeout:2000}")
     private int redisTimeout;
 
+    @Value("${app.redis.pool.max-total:20}")
+    private int poolMaxTotal;
+
+    @Value("${app.redis.pool.max-idle:10}")
+    private int poolMaxIdle;
+
+    @Value("${app.redis.pool.min-idle:5}")
+    private int poolMinIdle;
+
+    @Value("${app.redis.pool.max-wait-ms:1000}")
+    private long poolMaxWaitMs;
+
+    @Value("${app.redis.pool.eviction-interval-ms:30000}")
+    private long poolEvictionIntervalMs;
+
+    @Value("${app.redis.pool.min-evictable-idle-ms:60000}")
+    private long poolMinEvictableIdleMs;
+
     @Bean
-    public JedisPool jedisPool() {
+    public JedisPool jedisPool(MeterRegistry meterRegistry) {
         try {
             URI uri = new URI(redisUrl);
 
@@ -42,14 +62,21 @@ public class RedisConfig {
             }
 
             JedisPoolConfig poolConfig = new JedisPoolConfig();
-            poolConfig.setMaxTotal(20);
-            poolConfig.setMaxIdle(10);
-            poolConfig.setMinIdle(5);
-            poolConfig.setTestOnBorrow(true);
-            poolConfig.setTestOnReturn(true);
+            poolConfig.setMaxTotal(poolMaxTotal);
+            poolConfig.setMaxIdle(poolMaxIdle);
+            poolConfig.setMinIdle(poolMinIdle);
+            // Validate idle connections in the background instead of a PING round trip per borrow and return;
+            // a connection that dies while borrowed surfaces as a command error and is destroyed on return
+            poolConfig.setTestOnBorrow(false);
+            poolConfig.setTestOnReturn(false);
             poolConfig.setTestWhileIdle(true);
+            poolConfig.setTimeBetweenEvictionRuns(Duration.ofMillis(poolEvictionIntervalMs));
+            poolConfig.setMinEvictableIdleDuration(Duration.ofMillis(poolMinEvictableIdleMs));
+            poolConfig.setNumTestsPerEvictionRun(-1);
+            // Waiters park on a j.u.c. lock, which a virtual thread can unmount from
+            poolConfig.setMaxWait(Duration.ofMillis(poolMaxWaitMs));
 
-            return new JedisPool(poolConfig, host, port, redisTimeout, password, database);
+            return new InstrumentedJedisPool(poolConfig, host, port, redisTimeout, password, database, meterRegistry);
         } catch (Exception e) {
             throw new RuntimeException("Failed to parse Redis URL: " + redisUrl, e);
         }
@@ -0,0 +1,93 @@
+package com.chaitanya.evently.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Read-replica routing. Only active when app.datasource.replica-urls is set;
+ * otherwise Spring Boot's single auto-configured pool is used unchanged.
+ */
+@Configuration
+@ConditionalOnExpression("!'${app.datasource.replica-urls:}'.isBlank()")
+@Slf4j
+public class ReplicaDataSourceConfig {
+
+    @Value("${app.datasource.replica-urls}")
+    private String[] replicaUrls;
+
+    @Value("${app.datasource.replica-pool-size:10}")
+    private int replicaPoolSize;
+
+    @Value("${app.datasource.replica-max-lag-seconds:5}")
+    private double replicaMaxLagSeconds;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+            DataSourceProperties properties, MeterRegistry meterRegistry) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicaUrls.length; i++) {
+            String key = "replica-" + (i + 1);
+            replicas.put(key, createReplicaPool(key, replicaUrls[i].trim(), properties,
+                    primaryDataSource, meterRegistry));
+        }
+
+        log.info("Routing read-only transactions across {} replica(s), max lag {}s", replicas.size(),
+                replicaMaxLagSeconds);
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, replicaMaxLagSeconds);
+    }
+
+    /**
+     * Defers connection checkout to the first statement, by which point the
+     * transaction's read-only flag is known to the router.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return proxy;
+    }
+
+    /**
+     * Replica pools share the primary's timeouts and lifetimes and report the same hikaricp.* metrics
+     */
+    private HikariDataSource createReplicaPool(String name, String url, DataSourceProperties properties,
+            HikariDataSource primary, MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(url);
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setMaximumPoolSize(replicaPoolSize);
+        dataSource.setConnectionTimeout(primary.getConnectionTimeout());
+        dataSource.setIdleTimeout(primary.getIdleTimeout());
+        dataSource.setMaxLifetime(primary.getMaxLifetime());
+        dataSource.setKeepaliveTime(primary.getKeepaliveTime());
+        dataSource.setValidationTimeout(primary.getValidationTimeout());
+        dataSource.setMetricRegistry(meterRegistry);
+        dataSource.setReadOnly(true);
+        // Do not block startup on a replica being down; the health check takes it out of rotation
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+}
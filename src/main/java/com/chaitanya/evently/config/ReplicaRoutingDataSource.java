@@ -0,0 +1,126 @@
+package com.chaitanya.evently.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Sends read-only transactions to a healthy, sufficiently caught-up replica and
+ * everything else, including reads pinned with PrimaryRouting, to the primary.
+ * Must sit behind a LazyConnectionDataSourceProxy so the lookup happens after
+ * the transaction's read-only flag is set.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    // Zero when the replica has replayed everything it received, otherwise seconds since the last replayed commit
+    private static final String LAG_QUERY = "SELECT CASE WHEN NOT pg_is_in_recovery() "
+            + "OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    private static final int HEALTH_CHECK_TIMEOUT_SECONDS = 2;
+
+    private final Map<String, DataSource> replicas;
+    private final Map<String, Boolean> replicaHealth = new HashMap<>();
+    private final double maxLagSeconds;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    // Not synchronized: probes block on JDBC, which would pin a virtual scheduler thread to its carrier
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile List<String> healthyReplicas = List.of();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, double maxLagSeconds) {
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.maxLagSeconds = maxLagSeconds;
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (PrimaryRouting.isPinned() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+
+        List<String> candidates = healthyReplicas;
+        if (candidates.isEmpty()) {
+            return PRIMARY;
+        }
+        return candidates.get(Math.floorMod(nextReplica.getAndIncrement(), candidates.size()));
+    }
+
+    /**
+     * Probes every replica and keeps only reachable ones within the lag budget in rotation
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.replica-health-check-interval-ms:5000}")
+    public void refreshReplicaHealth() {
+        refreshLock.lock();
+        try {
+            List<String> healthy = new ArrayList<>();
+
+            for (Map.Entry<String, DataSource> replica : replicas.entrySet()) {
+                String key = replica.getKey();
+                boolean isHealthy = probe(key, replica.getValue());
+
+                Boolean previous = replicaHealth.put(key, isHealthy);
+                if (previous == null || previous != isHealthy) {
+                    log.info("Replica {} is now {}", key, isHealthy ? "in rotation" : "out of rotation");
+                }
+                if (isHealthy) {
+                    healthy.add(key);
+                }
+            }
+
+            healthyReplicas = List.copyOf(healthy);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Replica pools are owned by the router rather than the context, so close them here
+     */
+    public void close() {
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Failed to close replica pool: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private boolean probe(String key, DataSource dataSource) {
+        try {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.setQueryTimeout(HEALTH_CHECK_TIMEOUT_SECONDS);
+            Double lag = jdbcTemplate.queryForObject(LAG_QUERY, Double.class);
+
+            if (lag == null || lag > maxLagSeconds) {
+                log.warn("Replica {} is lagging by {} seconds (max {})", key, lag, maxLagSeconds);
+                return false;
+            }
+            return true;
+        } catch (Exception e) {
+            log.warn("Replica {} health check failed: {}", key, e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.chaitanya.evently.config;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Database work done by the current request: statement count, time spent in
+ * JDBC calls and time connections were held, plus per-fingerprint totals so
+ * slow requests can be traced to their queries. Bound to the request thread by
+ * DbTelemetryFilter and filled in by DbTelemetryListener.
+ */
+public class RequestDbStats {
+
+    private static final ThreadLocal<RequestDbStats> CURRENT = new ThreadLocal<>();
+
+    private static final int MAX_FINGERPRINT_LENGTH = 200;
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private int statements;
+    private long dbNanos;
+    private long holdNanos;
+    private int connections;
+    private final Map<String, Long> openConnections = new HashMap<>();
+    private final Map<String, Fingerprint> fingerprints = new HashMap<>();
+
+    public static RequestDbStats start() {
+        RequestDbStats stats = new RequestDbStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * Null outside a request, e.g. for scheduled jobs and startup migrations
+     */
+    public static RequestDbStats current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    void connectionAcquired(String connectionId, long nanos) {
+        connections++;
+        openConnections.put(connectionId, nanos);
+    }
+
+    void connectionReleased(String connectionId, long nanos) {
+        Long acquired = openConnections.remove(connectionId);
+        if (acquired != null) {
+            holdNanos += nanos - acquired;
+        }
+    }
+
+    void statementExecuted(List<String> queries, long elapsedNanos) {
+        statements++;
+        dbNanos += elapsedNanos;
+        for (String query : queries) {
+            fingerprints.computeIfAbsent(fingerprint(query), key -> new Fingerprint(key))
+                    .record(elapsedNanos / queries.size());
+        }
+    }
+
+    /**
+     * Counts connections still open when the response is done as held until now
+     */
+    public void finish(long nanos) {
+        for (Long acquired : openConnections.values()) {
+            holdNanos += nanos - acquired;
+        }
+        openConnections.clear();
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getDbNanos() {
+        return dbNanos;
+    }
+
+    public long getHoldNanos() {
+        return holdNanos;
+    }
+
+    public int getConnections() {
+        return connections;
+    }
+
+    /**
+     * Fingerprints ordered by total time spent, most expensive first
+     */
+    public List<Fingerprint> topFingerprints(int limit) {
+        List<Fingerprint> sorted = new ArrayList<>(fingerprints.values());
+        sorted.sort(Comparator.comparingLong(Fingerprint::getNanos).reversed());
+        return sorted.subList(0, Math.min(limit, sorted.size()));
+    }
+
+    /**
+     * Strips literals and collapses IN lists so the same query shape groups together
+     */
+    static String fingerprint(String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = IN_LIST.matcher(normalized).replaceAll("in (?)");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+        return normalized.length() > MAX_FINGERPRINT_LENGTH
+                ? normalized.substring(0, MAX_FINGERPRINT_LENGTH) + "..."
+                : normalized;
+    }
+
+    public static class Fingerprint {
+
+        private final String sql;
+        private int count;
+        private long nanos;
+
+        Fingerprint(String sql) {
+            this.sql = sql;
+        }
+
+        void record(long elapsedNanos) {
+            count++;
+            nanos += elapsedNanos;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+    }
+}
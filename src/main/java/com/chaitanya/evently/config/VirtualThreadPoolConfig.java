@@ -0,0 +1,37 @@
+package com.chaitanya.evently.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.lang.NonNull;
+
+/**
+ * With virtual threads, requests queue on the connection pool instead of on
+ * Tomcat's thread pool, so Hikari's 30s connection timeout would let thousands
+ * of parked requests pile up. Unless DB_CONNECTION_TIMEOUT_MS is set, the
+ * application pools then fail fast after app.virtual-threads.db-connection-timeout-ms.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPoolConfig {
+
+    private static final String CONNECTION_TIMEOUT_ENV = "DB_CONNECTION_TIMEOUT_MS";
+
+    @Bean
+    public static BeanPostProcessor virtualThreadPoolTimeoutPostProcessor(Environment environment) {
+        long timeoutMs = environment.getProperty("app.virtual-threads.db-connection-timeout-ms", Long.class, 5000L);
+        boolean explicit = environment.containsProperty(CONNECTION_TIMEOUT_ENV);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+                if (!explicit && bean instanceof HikariDataSource dataSource) {
+                    dataSource.setConnectionTimeout(timeoutMs);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -12,6 +12,7 @@ public class WebConfig implements WebMvcConfigurer {
 
     private final AdminSecurityInterceptor adminSecurityInterceptor;
     private final UserSecurityInterceptor userSecurityInterceptor;
+    private final ConcurrencyLimitInterceptor concurrencyLimitInterceptor;
 
     @Override
     public void addInterceptors(@NonNull InterceptorRegistry registry) {
@@ -19,6 +20,10 @@ public class WebConfig implements WebMvcConfigurer {
         registry.addInterceptor(adminSecurityInterceptor)
                 .addPathPatterns("/api/v1/admin/**");
 
+        // Concurrency limit - sheds user traffic with 503 before anything else runs
+        registry.addInterceptor(concurrencyLimitInterceptor)
+                .addPathPatterns("/api/v1/user/**");
+
         // User interceptor - requires X-User-ID header (excludes auth endpoints)
         registry.addInterceptor(userSecurityInterceptor)
                 .addPathPatterns("/api/v1/user/**")
@@ -0,0 +1,23 @@
+package com.chaitanya.evently.controller.admin;
+
+import com.chaitanya.evently.dto.job.DeletionJobResponse;
+import com.chaitanya.evently.service.DeletionJobService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/admin/deletion-job")
+@RequiredArgsConstructor
+@Slf4j
+public class AdminDeletionJobController {
+
+    private final DeletionJobService deletionJobService;
+
+    @GetMapping("/{id}")
+    public ResponseEntity<DeletionJobResponse> getJob(@PathVariable Long id) {
+        log.info("Admin requested deletion job with id: {}", id);
+        return ResponseEntity.ok(deletionJobService.getJob(id));
+    }
+}
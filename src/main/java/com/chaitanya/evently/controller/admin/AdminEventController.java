@@ -4,6 +4,7 @@ import com.chaitanya.evently.dto.PaginationResponse;
 import com.chaitanya.evently.dto.event.EventRequest;
 import com.chaitanya.evently.dto.event.EventStatusUpdateRequest;
 import com.chaitanya.evently.dto.event.PaginationRequest;
+import com.chaitanya.evently.dto.job.DeletionJobResponse;
 import com.chaitanya.evently.model.Event;
 import com.chaitanya.evently.service.EventService;
 import jakarta.servlet.http.HttpServletRequest;
@@ -69,6 +70,12 @@ public class AdminEventController {
         return ResponseEntity.ok(toEventResponse(event));
     }
 
+    @DeleteMapping("/{id}")
+    public ResponseEntity<DeletionJobResponse> deleteEvent(@PathVariable Long id) {
+        log.info("Admin deleting event with id: {}", id);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(eventService.deleteEvent(id));
+    }
+
     // Private Mapper Methods
 
     private Map<String, Object> toEventResponse(Event event) {
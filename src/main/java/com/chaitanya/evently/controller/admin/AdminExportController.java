@@ -0,0 +1,94 @@
+package com.chaitanya.evently.controller.admin;
+
+import com.chaitanya.evently.service.ExportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/api/v1/admin/export")
+@RequiredArgsConstructor
+@Slf4j
+public class AdminExportController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv");
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final ExportService exportService;
+
+    @GetMapping("/show/{showId}/bookings")
+    public ResponseEntity<StreamingResponseBody> exportBookings(
+            @PathVariable Long showId,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        log.info("Admin requested bookings export for showId: {} as {}", showId, format);
+        return stream("bookings", showId, format, acceptEncoding,
+                (exportFormat, out) -> exportService.exportBookings(showId, exportFormat, out));
+    }
+
+    @GetMapping("/show/{showId}/tickets")
+    public ResponseEntity<StreamingResponseBody> exportTickets(
+            @PathVariable Long showId,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        log.info("Admin requested tickets export for showId: {} as {}", showId, format);
+        return stream("tickets", showId, format, acceptEncoding,
+                (exportFormat, out) -> exportService.exportTickets(showId, exportFormat, out));
+    }
+
+    @GetMapping("/show/{showId}/payments")
+    public ResponseEntity<StreamingResponseBody> exportPayments(
+            @PathVariable Long showId,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        log.info("Admin requested payments export for showId: {} as {}", showId, format);
+        return stream("payments", showId, format, acceptEncoding,
+                (exportFormat, out) -> exportService.exportPayments(showId, exportFormat, out));
+    }
+
+    private ResponseEntity<StreamingResponseBody> stream(String name, Long showId, String format,
+            String acceptEncoding, Exporter exporter) {
+        // Validate up front; once streaming starts the status line is already sent
+        ExportService.Format exportFormat = ExportService.Format.from(format);
+        exportService.validateShow(showId);
+
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        String extension = exportFormat == ExportService.Format.CSV ? "csv" : "ndjson";
+
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                try (GZIPOutputStream gzipOut = new GZIPOutputStream(out, GZIP_BUFFER_SIZE)) {
+                    exporter.export(exportFormat, gzipOut);
+                }
+            } else {
+                exporter.export(exportFormat, out);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(exportFormat == ExportService.Format.CSV ? CSV : NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"show-" + showId + "-" + name + "." + extension + "\"")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    @FunctionalInterface
+    private interface Exporter {
+        void export(ExportService.Format format, OutputStream out);
+    }
+}
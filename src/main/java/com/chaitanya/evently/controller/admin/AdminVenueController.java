@@ -1,11 +1,14 @@
 package com.chaitanya.evently.controller.admin;
 
+import com.chaitanya.evently.dto.job.DeletionJobResponse;
 import com.chaitanya.evently.dto.seat.map.SeatMapRequest;
 import com.chaitanya.evently.dto.seat.map.SeatMapResponse;
+import com.chaitanya.evently.dto.venue.SeatImportResponse;
 import com.chaitanya.evently.dto.venue.VenueRequest;
 import com.chaitanya.evently.model.Venue;
 import com.chaitanya.evently.model.Seat;
 import com.chaitanya.evently.service.VenueService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,6 +16,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -56,6 +60,12 @@ public class AdminVenueController {
         return ResponseEntity.status(HttpStatus.CREATED).body(toVenueResponse(venue));
     }
 
+    @DeleteMapping("/{id}")
+    public ResponseEntity<DeletionJobResponse> deleteVenue(@PathVariable Long id) {
+        log.info("Admin deleting venue with id: {}", id);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(venueService.deleteVenue(id));
+    }
+
     @GetMapping("/{id}/seats")
     public ResponseEntity<Map<String, Object>> getSeatMap(@PathVariable Long id) {
         log.info("Admin requested seat map for venue with id: {}", id);
@@ -72,6 +82,19 @@ public class AdminVenueController {
         return ResponseEntity.status(HttpStatus.CREATED).body(toSeatMapResponse(seatMap));
     }
 
+    /**
+     * Imports seats from a CSV body of section,row,seat_number lines. The body is
+     * streamed to the database rather than read into memory.
+     */
+    @PostMapping(value = "/{id}/seats/import", consumes = { "text/csv", "text/plain" })
+    public ResponseEntity<SeatImportResponse> importSeats(@PathVariable Long id,
+            @RequestParam(defaultValue = "true") boolean header,
+            HttpServletRequest request) throws IOException {
+        log.info("Admin importing seats for venue with id: {}", id);
+        SeatImportResponse response = venueService.importSeats(id, request.getInputStream(), header);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     // Mapper Methods
 
     private Map<String, Object> toVenueResponse(Venue venue) {
@@ -6,6 +6,7 @@ import com.chaitanya.evently.dto.booking.BookingPaymentRequest;
 import com.chaitanya.evently.dto.booking.BookingPaymentResponse;
 import com.chaitanya.evently.dto.show.ShowSeatsResponse;
 import com.chaitanya.evently.service.BookingWorkflowService;
+import com.chaitanya.evently.service.RateLimiterService;
 import com.chaitanya.evently.util.HeaderUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
@@ -30,6 +31,7 @@ import org.springframework.web.bind.annotation.*;
 public class UserBookingWorkflowController {
 
     private final BookingWorkflowService bookingWorkflowService;
+    private final RateLimiterService rateLimiterService;
 
     @GetMapping("/show/{showId}/seats")
     public ResponseEntity<Map<String, Object>> getShowSeats(@PathVariable Long showId) {
@@ -49,6 +51,9 @@ public class UserBookingWorkflowController {
         log.info("User {} requested booking for show {} with {} seats",
                 userId, request.getShowId(), request.getSeats().size());
 
+        // Before any lock or query, so rejected attempts cost nothing downstream
+        rateLimiterService.checkBookingAttempt(userId, request.getShowId());
+
         BookingCreateResponse response = bookingWorkflowService.createBooking(request, userId);
         return ResponseEntity.ok(response);
     }
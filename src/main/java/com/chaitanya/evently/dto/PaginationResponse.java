@@ -1,12 +1,16 @@
 package com.chaitanya.evently.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.List;
+import java.util.function.Function;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 @Getter
 @Setter
@@ -20,6 +24,9 @@ public class PaginationResponse<T> {
     private SortMeta sort;
     private Links links;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
     @Getter
     @Setter
     @NoArgsConstructor
@@ -117,6 +124,52 @@ public class PaginationResponse<T> {
         return response;
     }
 
+    /**
+     * Maps a keyset Window to PaginationResponse. Totals are not computed in
+     * keyset mode; the next page is addressed by nextCursor instead.
+     */
+    public static <T> PaginationResponse<T> fromWindow(Window<T> window, int size, Sort sort, String baseUrl,
+            String nextCursor) {
+        List<SortMeta.SortField> sortFields = sort.stream()
+                .map(order -> SortMeta.SortField.builder()
+                        .property(order.getProperty())
+                        .direction(order.getDirection().name().toLowerCase())
+                        .build())
+                .collect(java.util.stream.Collectors.toList());
+
+        return PaginationResponse.<T>builder()
+                .isPaginated(window.hasNext())
+                .content(window.getContent())
+                .page(PageMeta.builder()
+                        .size(size)
+                        .build())
+                .sort(SortMeta.builder()
+                        .fields(sortFields)
+                        .build())
+                .links(Links.builder()
+                        .self(baseUrl)
+                        .build())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * Copies this response with each content item transformed, keeping paging metadata
+     */
+    public <U> PaginationResponse<U> map(Function<? super T, ? extends U> mapper) {
+        List<U> mapped = content == null ? null
+                : content.stream().<U>map(mapper).collect(java.util.stream.Collectors.toList());
+
+        return PaginationResponse.<U>builder()
+                .isPaginated(isPaginated)
+                .content(mapped)
+                .page(page)
+                .sort(sort)
+                .links(links)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
     private static <T> Links buildLinks(Page<T> page, String baseUrl) {
         return Links.builder()
                 .self(buildUrl(baseUrl, page.getNumber(), page.getSize()))
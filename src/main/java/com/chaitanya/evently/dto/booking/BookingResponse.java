@@ -0,0 +1,58 @@
+package com.chaitanya.evently.dto.booking;
+
+import com.chaitanya.evently.dto.show.ShowResponse;
+import com.chaitanya.evently.model.Booking;
+import com.chaitanya.evently.model.User;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Booking with its user and show (including venue and event) embedded.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookingResponse {
+
+    private Long id;
+    private UserSummary user;
+    private ShowResponse show;
+    private String status;
+    private BigDecimal totalAmount;
+    private Instant createdAt;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class UserSummary {
+        private Long id;
+        private String fullName;
+        private String email;
+    }
+
+    public static BookingResponse from(Booking booking) {
+        User user = booking.getUser();
+        return BookingResponse.builder()
+                .id(booking.getId())
+                .user(UserSummary.builder()
+                        .id(user.getId())
+                        .fullName(user.getFullName())
+                        .email(user.getEmail())
+                        .build())
+                .show(ShowResponse.from(booking.getShow()))
+                .status(String.valueOf(booking.getStatus()))
+                .totalAmount(booking.getTotalAmount())
+                .createdAt(booking.getCreatedAt())
+                .build();
+    }
+}
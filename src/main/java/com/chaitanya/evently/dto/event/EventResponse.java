@@ -0,0 +1,32 @@
+package com.chaitanya.evently.dto.event;
+
+import com.chaitanya.evently.model.Event;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventResponse {
+
+    private Long id;
+    private String title;
+    private String description;
+    private String category;
+    private String status;
+
+    public static EventResponse from(Event event) {
+        return EventResponse.builder()
+                .id(event.getId())
+                .title(event.getTitle())
+                .description(event.getDescription())
+                .category(event.getCategory())
+                .status(String.valueOf(event.getStatus()))
+                .build();
+    }
+}
@@ -29,4 +29,7 @@ public class PaginationRequest {
 
     @Builder.Default
     private String direction = "asc";
+
+    // Opaque keyset cursor from a previous response's nextCursor; when present, page is ignored
+    private String cursor;
 }
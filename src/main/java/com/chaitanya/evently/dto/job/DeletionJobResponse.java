@@ -0,0 +1,44 @@
+package com.chaitanya.evently.dto.job;
+
+import com.chaitanya.evently.model.DeletionJob;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DeletionJobResponse {
+
+    private Long id;
+    private String targetType;
+    private Long targetId;
+    private String status;
+    private String currentStep;
+    private Long rowsDeleted;
+    private String error;
+    private Instant createdAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+
+    public static DeletionJobResponse from(DeletionJob job) {
+        return DeletionJobResponse.builder()
+                .id(job.getId())
+                .targetType(job.getTargetType().name())
+                .targetId(job.getTargetId())
+                .status(job.getStatus().name())
+                .currentStep(job.getCurrentStep())
+                .rowsDeleted(job.getRowsDeleted())
+                .error(job.getError())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.chaitanya.evently.dto.show;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Recurring show schedule: every date × every time, each lasting durationMinutes.
+ * Dates are either listed explicitly or generated from startDate..endDate,
+ * optionally limited to daysOfWeek. Dates and times are wall-clock in timeZone.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ShowBulkRequest {
+
+    @NotNull(message = "Venue ID is required")
+    private Long venueId;
+
+    @NotNull(message = "Event ID is required")
+    private Long eventId;
+
+    private List<LocalDate> dates;
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    private List<DayOfWeek> daysOfWeek;
+
+    @NotNull(message = "times are required")
+    @NotEmpty(message = "times cannot be empty")
+    @Size(max = 24, message = "times must not contain more than 24 entries")
+    private List<LocalTime> times;
+
+    @Builder.Default
+    private String timeZone = "UTC";
+
+    @NotNull(message = "Duration is required")
+    @Min(value = 1, message = "Duration must be at least 1 minute")
+    @Max(value = 1440, message = "Duration must not exceed 1440 minutes (24 hours)")
+    private Integer durationMinutes;
+}
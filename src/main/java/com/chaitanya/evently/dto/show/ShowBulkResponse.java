@@ -0,0 +1,52 @@
+package com.chaitanya.evently.dto.show;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Outcome of a bulk schedule: occurrences that were created and those skipped
+ * because they overlap an existing show or another occurrence in the request.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ShowBulkResponse {
+
+    private Integer requested;
+    private Integer createdCount;
+    private Integer conflictCount;
+    private List<Occurrence> created;
+    private List<Conflict> conflicts;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Occurrence {
+        private Long showId;
+        private Instant startTimestamp;
+        private Instant endTimestamp;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Conflict {
+        private Instant startTimestamp;
+        private Instant endTimestamp;
+        // Null when the overlap is with another occurrence in the same request
+        private Long conflictingShowId;
+        private String reason;
+    }
+}
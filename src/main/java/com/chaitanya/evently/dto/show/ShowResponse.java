@@ -0,0 +1,89 @@
+package com.chaitanya.evently.dto.show;
+
+import com.chaitanya.evently.model.Event;
+import com.chaitanya.evently.model.Show;
+import com.chaitanya.evently.model.Venue;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Show with its venue and event embedded. Built from a show whose venue and
+ * event were fetched in the same query, so mapping never triggers lazy loads.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class ShowResponse {
+
+    private Long id;
+    private VenueSummary venue;
+    private EventSummary event;
+    private Instant startTimestamp;
+    private Integer durationMinutes;
+    private String status;
+
+    // Venue capacity minus sold and held seats; only set on show reads, not on embedded booking shows
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer seatsLeft;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class VenueSummary {
+        private Long id;
+        private String name;
+        private String address;
+        private Integer capacity;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class EventSummary {
+        private Long id;
+        private String title;
+        private String description;
+        private String category;
+    }
+
+    public static ShowResponse from(Show show) {
+        return ShowResponse.builder()
+                .id(show.getId())
+                .venue(toVenueSummary(show.getVenue()))
+                .event(toEventSummary(show.getEvent()))
+                .startTimestamp(show.getStartTimestamp())
+                .durationMinutes(show.getDurationMinutes())
+                .status(String.valueOf(show.getStatus()))
+                .build();
+    }
+
+    private static VenueSummary toVenueSummary(Venue venue) {
+        return VenueSummary.builder()
+                .id(venue.getId())
+                .name(venue.getName())
+                .address(venue.getAddress())
+                .capacity(venue.getCapacity())
+                .build();
+    }
+
+    private static EventSummary toEventSummary(Event event) {
+        return EventSummary.builder()
+                .id(event.getId())
+                .title(event.getTitle())
+                .description(event.getDescription())
+                .category(event.getCategory())
+                .build();
+    }
+}
@@ -0,0 +1,30 @@
+package com.chaitanya.evently.dto.show;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Sales counters for a show, served from the incrementally maintained rollup.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ShowSalesResponse {
+
+    private Long showId;
+    private Integer capacity;
+    private Integer seatsSold;
+    private Integer seatsHeld;
+    private Integer seatsLeft;
+    private BigDecimal revenue;
+    private Integer cancellations;
+    private Instant updatedAt;
+}
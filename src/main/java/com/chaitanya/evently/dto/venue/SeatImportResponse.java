@@ -0,0 +1,24 @@
+package com.chaitanya.evently.dto.venue;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Outcome of a bulk seat import for a venue.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeatImportResponse {
+
+    private Long venueId;
+    private Long rowsRead;
+    private Long seatsCreated;
+    private Long seatsSkipped;
+    private Long totalCapacity;
+}
@@ -1,5 +1,6 @@
 package com.chaitanya.evently.dto.venue;
 
+import com.chaitanya.evently.model.Venue;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -17,4 +18,13 @@ public class VenueResponse {
     private String name;
     private String address;
     private Integer capacity;
+
+    public static VenueResponse from(Venue venue) {
+        return VenueResponse.builder()
+                .id(venue.getId())
+                .name(venue.getName())
+                .address(venue.getAddress())
+                .capacity(venue.getCapacity())
+                .build();
+    }
 }
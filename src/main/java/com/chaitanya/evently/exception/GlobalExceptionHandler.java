@@ -5,6 +5,8 @@ import com.chaitanya.evently.exception.types.BadRequestException;
 import com.chaitanya.evently.exception.types.ConflictException;
 import com.chaitanya.evently.exception.types.InternalServerException;
 import com.chaitanya.evently.exception.types.NotFoundException;
+import com.chaitanya.evently.exception.types.ServiceUnavailableException;
+import com.chaitanya.evently.exception.types.TooManyRequestsException;
 import com.chaitanya.evently.exception.types.UnauthorizedException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
@@ -12,6 +14,7 @@ import java.io.IOException;
 import java.time.Instant;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -68,6 +71,28 @@ public class GlobalExceptionHandler {
         return build(HttpStatus.UNAUTHORIZED, "Unauthorized", ex.getMessage(), requestPath, null);
     }
 
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequests(TooManyRequestsException ex, WebRequest request) {
+        String requestPath = path(request);
+        log.debug("Rate limited request: {} - Error: {}", requestPath, ex.getMessage());
+        ResponseEntity<ErrorResponse> response = build(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests",
+                ex.getMessage(), requestPath, null);
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response.getBody());
+    }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailable(ServiceUnavailableException ex, WebRequest request) {
+        String requestPath = path(request);
+        log.debug("Shed request: {} - Error: {}", requestPath, ex.getMessage());
+        ResponseEntity<ErrorResponse> response = build(HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable",
+                ex.getMessage(), requestPath, null);
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response.getBody());
+    }
+
     @ExceptionHandler(InternalServerException.class)
     public ResponseEntity<ErrorResponse> handleInternalServer(InternalServerException ex, WebRequest request) {
         String requestPath = path(request);
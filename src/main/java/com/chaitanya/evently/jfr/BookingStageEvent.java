@@ -0,0 +1,27 @@
+package com.chaitanya.evently.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One stage of a booking flow; nests inside the flow's event on the same thread
+ */
+@Name("evently.BookingStage")
+@Label("Booking Stage")
+@Category({ "Evently", "Booking" })
+@Description("Single stage of a reservation, payment or cancellation")
+@StackTrace(false)
+public class BookingStageEvent extends jdk.jfr.Event {
+
+    @Label("Flow")
+    public String flow;
+
+    @Label("Stage")
+    public String stage;
+
+    @Label("Outcome")
+    public String outcome;
+}
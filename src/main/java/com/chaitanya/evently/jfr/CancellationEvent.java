@@ -0,0 +1,34 @@
+package com.chaitanya.evently.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One cancelBooking call, from booking lookup to the cancellation email
+ */
+@Name("evently.Cancellation")
+@Label("Cancellation")
+@Category({ "Evently", "Booking" })
+@Description("Booking cancellation and refund")
+@StackTrace(false)
+public class CancellationEvent extends jdk.jfr.Event {
+
+    @Label("Booking Id")
+    public long bookingId;
+
+    @Label("Show Id")
+    public long showId;
+
+    @Label("User Id")
+    public long userId;
+
+    @Label("Seat Count")
+    public int seatCount;
+
+    @Label("Outcome")
+    @Description("success, rejected or error")
+    public String outcome;
+}
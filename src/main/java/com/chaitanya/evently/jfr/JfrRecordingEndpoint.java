@@ -0,0 +1,244 @@
+package com.chaitanya.evently.jfr;
+
+import com.chaitanya.evently.exception.types.BadRequestException;
+import com.chaitanya.evently.exception.types.InternalServerException;
+import com.chaitanya.evently.exception.types.NotFoundException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.Access;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Starts and dumps bounded JFR recordings on a running node. Every recording
+ * is capped in duration and size, only one on-demand recording runs at a
+ * time, and a continuous ring buffer (on by default) can be dumped after an
+ * incident. Each dump is its own temp file, deleted once its response has
+ * been streamed. Off unless management.endpoint.jfr.access is set.
+ */
+@Component
+@Endpoint(id = "jfr", defaultAccess = Access.NONE)
+@Slf4j
+public class JfrRecordingEndpoint {
+
+    public static final String ON_DEMAND = "on-demand";
+    public static final String CONTINUOUS = "continuous";
+
+    private static final List<String> EVENTLY_EVENTS = List.of("evently.Reservation", "evently.Payment",
+            "evently.Cancellation", "evently.BookingStage", "evently.SeatLock");
+
+    @Value("${app.jfr.settings:profile}")
+    private String settings;
+
+    @Value("${app.jfr.max-duration-seconds:300}")
+    private int maxDurationSeconds;
+
+    @Value("${app.jfr.max-size-mb:100}")
+    private int maxSizeMb;
+
+    @Value("${app.jfr.continuous:true}")
+    private boolean continuousEnabled;
+
+    @Value("${app.jfr.continuous-max-age-minutes:15}")
+    private int continuousMaxAgeMinutes;
+
+    private Recording onDemand;
+    private Recording continuous;
+    private final Set<Path> pendingDumps = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void init() {
+        if (continuousEnabled) {
+            // The lighter default settings; the ring buffer runs for the life of the process
+            continuous = newRecording(CONTINUOUS, "default");
+            continuous.setMaxAge(Duration.ofMinutes(continuousMaxAgeMinutes));
+            continuous.setMaxSize(maxSizeMb * 1024L * 1024L);
+            continuous.start();
+            log.info("Started continuous JFR recording, keeping the last {} minutes", continuousMaxAgeMinutes);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        close(onDemand);
+        close(continuous);
+        pendingDumps.forEach(this::deleteDump);
+    }
+
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put(ON_DEMAND, describe(onDemand));
+        status.put(CONTINUOUS, describe(continuous));
+        status.put("maxDurationSeconds", maxDurationSeconds);
+        status.put("maxSizeMb", maxSizeMb);
+        return status;
+    }
+
+    /**
+     * Starts an on-demand recording; the requested limits are clamped to the configured caps
+     */
+    @WriteOperation
+    public synchronized Map<String, Object> start(@Nullable Integer durationSeconds, @Nullable Integer sizeMb) {
+        if (onDemand != null && onDemand.getState() == RecordingState.RUNNING) {
+            throw new BadRequestException("A JFR recording is already running");
+        }
+        close(onDemand);
+
+        int duration = clamp(durationSeconds, maxDurationSeconds);
+        int size = clamp(sizeMb, maxSizeMb);
+
+        onDemand = newRecording(ON_DEMAND, settings);
+        onDemand.setDuration(Duration.ofSeconds(duration));
+        onDemand.setMaxSize(size * 1024L * 1024L);
+        onDemand.start();
+        log.info("Started JFR recording for {}s, up to {} MB", duration, size);
+        return describe(onDemand);
+    }
+
+    /**
+     * Dumps what the named recording holds so far as a .jfr file
+     */
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized Resource dump(@Selector String name) {
+        Recording recording = switch (name) {
+            case ON_DEMAND -> onDemand;
+            case CONTINUOUS -> continuous;
+            default -> throw new BadRequestException("Unknown recording: " + name);
+        };
+        if (recording == null) {
+            throw new NotFoundException("No " + name + " JFR recording");
+        }
+
+        Path file = null;
+        try {
+            file = Files.createTempFile("evently-" + name + "-", ".jfr");
+            pendingDumps.add(file);
+            recording.dump(file);
+            log.info("Dumped {} JFR recording to {}", name, file);
+            return new DumpResource(file);
+        } catch (IOException e) {
+            if (file != null) {
+                deleteDump(file);
+            }
+            throw new InternalServerException("Failed to dump JFR recording: " + e.getMessage());
+        }
+    }
+
+    @DeleteOperation
+    public synchronized Map<String, Object> stop() {
+        if (onDemand != null && onDemand.getState() == RecordingState.RUNNING) {
+            onDemand.stop();
+            log.info("Stopped JFR recording");
+        }
+        return describe(onDemand);
+    }
+
+    private Recording newRecording(String name, String configurationName) {
+        try {
+            Recording recording = new Recording(Configuration.getConfiguration(configurationName));
+            recording.setName("evently-" + name);
+            recording.setToDisk(true);
+            for (String event : EVENTLY_EVENTS) {
+                recording.enable(event);
+            }
+            return recording;
+        } catch (IOException | ParseException e) {
+            throw new InternalServerException("Unknown JFR settings " + configurationName + ": " + e.getMessage());
+        }
+    }
+
+    private Map<String, Object> describe(Recording recording) {
+        Map<String, Object> description = new LinkedHashMap<>();
+        if (recording == null) {
+            description.put("state", "NONE");
+            return description;
+        }
+        description.put("state", recording.getState().name());
+        Instant startTime = recording.getStartTime();
+        if (startTime != null) {
+            description.put("startTime", startTime);
+        }
+        if (recording.getDuration() != null) {
+            description.put("durationSeconds", recording.getDuration().toSeconds());
+        }
+        description.put("sizeBytes", recording.getSize());
+        return description;
+    }
+
+    private static int clamp(Integer requested, int cap) {
+        if (requested == null || requested <= 0) {
+            return cap;
+        }
+        return Math.min(requested, cap);
+    }
+
+    private static void close(Recording recording) {
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    private void deleteDump(Path file) {
+        pendingDumps.remove(file);
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete JFR dump {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * A dump file that is deleted once the response has finished reading it,
+     * so a later dump never removes a file another caller is still streaming
+     */
+    private class DumpResource extends FileSystemResource {
+
+        private final Path file;
+
+        DumpResource(Path file) {
+            super(file);
+            this.file = file;
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        deleteDump(file);
+                    }
+                }
+            };
+        }
+    }
+}
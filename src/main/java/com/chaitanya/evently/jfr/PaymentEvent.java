@@ -0,0 +1,37 @@
+package com.chaitanya.evently.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One processPayment call, from reservation lookup to the confirmation email
+ */
+@Name("evently.Payment")
+@Label("Payment")
+@Category({ "Evently", "Booking" })
+@Description("Payment confirming a reservation")
+@StackTrace(false)
+public class PaymentEvent extends jdk.jfr.Event {
+
+    @Label("Reservation Id")
+    public String reservationId;
+
+    @Label("Show Id")
+    public long showId;
+
+    @Label("User Id")
+    public long userId;
+
+    @Label("Seat Count")
+    public int seatCount;
+
+    @Label("Booking Id")
+    public long bookingId;
+
+    @Label("Outcome")
+    @Description("success, rejected or error")
+    public String outcome;
+}
@@ -0,0 +1,35 @@
+package com.chaitanya.evently.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One createBooking call, from validation to the hold being recorded
+ */
+@Name("evently.Reservation")
+@Label("Reservation")
+@Category({ "Evently", "Booking" })
+@Description("Seat reservation attempt")
+@StackTrace(false)
+public class ReservationEvent extends jdk.jfr.Event {
+
+    @Label("Show Id")
+    public long showId;
+
+    @Label("User Id")
+    public long userId;
+
+    @Label("Seat Count")
+    public int seatCount;
+
+    @Label("Outcome")
+    @Description("success, rejected or error")
+    public String outcome;
+
+    @Label("Conflict")
+    @Description("Where a seat was lost: none, database (already booked) or redis (held)")
+    public String conflict = "none";
+}
@@ -0,0 +1,31 @@
+package com.chaitanya.evently.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Locking a reservation's seats in Redis, one SET NX per seat
+ */
+@Name("evently.SeatLock")
+@Label("Seat Lock")
+@Category({ "Evently", "Redis" })
+@Description("Attempt to lock all seats of a reservation in Redis")
+@StackTrace(false)
+public class SeatLockEvent extends jdk.jfr.Event {
+
+    @Label("Show Id")
+    public long showId;
+
+    @Label("Seat Count")
+    public int seatCount;
+
+    @Label("Acquired")
+    public boolean acquired;
+
+    @Label("Conflicting Seat Id")
+    @Description("First seat found locked by another reservation, 0 if none")
+    public long conflictSeatId;
+}
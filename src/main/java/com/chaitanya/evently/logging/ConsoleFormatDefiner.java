@@ -0,0 +1,33 @@
+package com.chaitanya.evently.logging;
+
+import ch.qos.logback.core.PropertyDefinerBase;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Resolves app.logging.format to a console include that exists. An unknown
+ * value falls back to text with a status warning, rather than leaving the
+ * include missing and the CONSOLE appender undefined.
+ */
+public class ConsoleFormatDefiner extends PropertyDefinerBase {
+
+    static final String FALLBACK = "text";
+    private static final Set<String> FORMATS = Set.of("json", "text");
+
+    private String format;
+
+    public void setFormat(String format) {
+        this.format = format;
+    }
+
+    @Override
+    public String getPropertyValue() {
+        String normalized = format == null ? "" : format.trim().toLowerCase(Locale.ROOT);
+        if (FORMATS.contains(normalized)) {
+            return normalized;
+        }
+        addWarn("Unknown app.logging.format [" + format + "], expected one of " + FORMATS + "; using " + FALLBACK);
+        return FALLBACK;
+    }
+}
@@ -0,0 +1,16 @@
+package com.chaitanya.evently.logging;
+
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+/**
+ * Markers the logging configuration keys on. INFO events carrying
+ * STATE_TRANSITION are never sampled away or discarded by the async queue.
+ */
+public final class LogMarkers {
+
+    public static final Marker STATE_TRANSITION = MarkerFactory.getMarker("STATE_TRANSITION");
+
+    private LogMarkers() {
+    }
+}
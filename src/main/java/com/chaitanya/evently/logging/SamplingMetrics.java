@@ -0,0 +1,40 @@
+package com.chaitanya.evently.logging;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.ILoggerFactory;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes how many log events SamplingTurboFilter has dropped. The filter is
+ * looked up on every read, so a logging reconfiguration does not leave the
+ * counter reading a discarded instance.
+ */
+@Component
+public class SamplingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        ILoggerFactory loggerFactory = LoggerFactory.getILoggerFactory();
+        if (!(loggerFactory instanceof LoggerContext context)) {
+            return;
+        }
+        FunctionCounter.builder("logging.sampling.suppressed", context, SamplingMetrics::suppressed)
+                .description("Log events dropped by hot-path sampling since startup")
+                .register(registry);
+    }
+
+    static double suppressed(LoggerContext context) {
+        long total = 0;
+        for (TurboFilter filter : context.getTurboFilterList()) {
+            if (filter instanceof SamplingTurboFilter sampling) {
+                total += sampling.getSuppressed();
+            }
+        }
+        return total;
+    }
+}
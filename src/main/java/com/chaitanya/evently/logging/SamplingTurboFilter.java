@@ -0,0 +1,99 @@
+package com.chaitanya.evently.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caps INFO and below from the configured hot-path loggers at a number of
+ * events per logger per second. Runs before the message is formatted, so a
+ * sampled-away event costs a map lookup and a counter increment. WARN and
+ * ERROR, and events marked STATE_TRANSITION, always pass.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private List<String> loggers = List.of();
+    private int permitsPerSecond = 20;
+
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    /**
+     * Comma-separated logger names; a name also covers its child loggers
+     */
+    public void setLoggers(String loggers) {
+        this.loggers = loggers == null || loggers.isBlank() ? List.of()
+                : List.of(loggers.trim().split("\\s*,\\s*"));
+    }
+
+    public void setPermitsPerSecond(int permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    /**
+     * Events dropped since startup, across all sampled loggers
+     */
+    public long getSuppressed() {
+        return suppressed.get();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+            Throwable t) {
+        // isInfoEnabled() and friends pass no format; they must not use up permits
+        if (format == null || level.isGreaterOrEqual(Level.WARN) || permitsPerSecond <= 0
+                || (marker != null && marker.contains(LogMarkers.STATE_TRANSITION))) {
+            return FilterReply.NEUTRAL;
+        }
+        // Turbo filters run before the level check; calls the logger would discard anyway must not cost a permit
+        if (!level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+
+        String name = logger.getName();
+        if (!isSampled(name)) {
+            return FilterReply.NEUTRAL;
+        }
+
+        Window window = windows.computeIfAbsent(name, key -> new Window());
+        if (window.tryAcquire(System.currentTimeMillis() / 1000, permitsPerSecond)) {
+            return FilterReply.NEUTRAL;
+        }
+        suppressed.incrementAndGet();
+        return FilterReply.DENY;
+    }
+
+    private boolean isSampled(String name) {
+        for (String sampled : loggers) {
+            if (name.equals(sampled) || (name.startsWith(sampled) && name.charAt(sampled.length()) == '.')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Fixed one-second window; a race on rollover lets a few extra events through, never fewer
+     */
+    private static final class Window {
+
+        private final AtomicLong second = new AtomicLong();
+        private final AtomicInteger count = new AtomicInteger();
+
+        boolean tryAcquire(long now, int permits) {
+            long current = second.get();
+            if (current != now && second.compareAndSet(current, now)) {
+                count.set(0);
+            }
+            return count.incrementAndGet() <= permits;
+        }
+    }
+}
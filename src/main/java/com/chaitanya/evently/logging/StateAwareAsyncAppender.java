@@ -0,0 +1,32 @@
+package com.chaitanya.evently.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import org.slf4j.Marker;
+
+import java.util.List;
+
+/**
+ * Async appender that, when its queue is nearly full, only discards plain
+ * INFO and below. WARN, ERROR and STATE_TRANSITION events wait for space
+ * instead, so they are never lost.
+ */
+public class StateAwareAsyncAppender extends AsyncAppender {
+
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        if (event.getLevel().toInt() > Level.INFO_INT) {
+            return false;
+        }
+        List<Marker> markers = event.getMarkerList();
+        if (markers != null) {
+            for (Marker marker : markers) {
+                if (marker.contains(LogMarkers.STATE_TRANSITION)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,57 @@
+package com.chaitanya.evently.model;
+
+import com.chaitanya.evently.model.base.BaseEntity;
+import com.chaitanya.evently.model.status.DeletionJobStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(callSuper = true)
+@Entity
+@Table(name = "deletion_jobs")
+public class DeletionJob extends BaseEntity {
+
+    public enum TargetType {
+        VENUE,
+        EVENT
+    }
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false)
+    private TargetType targetType;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private DeletionJobStatus status = DeletionJobStatus.PENDING;
+
+    @Column(name = "current_step")
+    private String currentStep;
+
+    @Builder.Default
+    @Column(name = "rows_deleted", nullable = false)
+    private Long rowsDeleted = 0L;
+
+    @Column(name = "error")
+    private String error;
+
+    @Column(name = "started_at")
+    private Instant startedAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+}
@@ -5,12 +5,16 @@ import com.chaitanya.evently.model.base.BaseEntity;
 import com.chaitanya.evently.model.status.EventStatus;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.*;
 
 /**
  * Event entity representing an event in the system
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "event")
 @Table(name = "events")
 @Getter
 @Setter
@@ -32,4 +36,8 @@ public class Event extends BaseEntity {
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false)
     private EventStatus status = EventStatus.CREATED;
+
+    // Only set by DeletionJobService, so entity saves never write it back
+    @Column(name = "deletion_pending", nullable = false, insertable = false, updatable = false)
+    private boolean deletionPending = false;
 }
@@ -3,6 +3,8 @@ package com.chaitanya.evently.model;
 import com.chaitanya.evently.model.base.BaseEntity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
@@ -17,6 +19,8 @@ import lombok.Setter;
 @Builder
 @EqualsAndHashCode(callSuper = true)
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "seat")
 @Table(name = "seats", uniqueConstraints = {
         @UniqueConstraint(name = "uk_seat_unique", columnNames = { "venue_id", "section", "row", "seat_number" })
 })
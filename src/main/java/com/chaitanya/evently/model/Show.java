@@ -1,6 +1,8 @@
 package com.chaitanya.evently.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.Instant;
 
 import com.chaitanya.evently.model.base.BaseEntity;
@@ -20,6 +22,8 @@ import lombok.Setter;
 @Builder
 @EqualsAndHashCode(callSuper = true)
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "show")
 @Table(name = "shows")
 public class Show extends BaseEntity {
 
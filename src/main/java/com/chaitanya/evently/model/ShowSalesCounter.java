@@ -0,0 +1,43 @@
+package com.chaitanya.evently.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Sales rollup for a show. Written only through the upserts in
+ * ShowSalesCounterRepository, never through entity saves.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "show_sales_counters")
+public class ShowSalesCounter {
+
+    @Id
+    @Column(name = "show_id")
+    private Long showId;
+
+    @Column(name = "seats_sold", nullable = false)
+    private Integer seatsSold;
+
+    @Column(name = "revenue", nullable = false)
+    private BigDecimal revenue;
+
+    @Column(name = "cancellations", nullable = false)
+    private Integer cancellations;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
@@ -3,6 +3,8 @@ package com.chaitanya.evently.model;
 import com.chaitanya.evently.model.base.BaseEntity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
@@ -17,6 +19,8 @@ import lombok.Setter;
 @Builder
 @EqualsAndHashCode(callSuper = true)
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "venue")
 @Table(name = "venues")
 public class Venue extends BaseEntity {
 
@@ -29,4 +33,9 @@ public class Venue extends BaseEntity {
     @Column(name = "capacity", nullable = false)
     @Builder.Default
     private Integer capacity = 0;
+
+    // Only set by DeletionJobService, so entity saves never write it back
+    @Column(name = "deletion_pending", nullable = false, insertable = false, updatable = false)
+    @Builder.Default
+    private boolean deletionPending = false;
 }
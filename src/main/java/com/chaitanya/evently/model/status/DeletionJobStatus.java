@@ -0,0 +1,8 @@
+package com.chaitanya.evently.model.status;
+
+public enum DeletionJobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -2,19 +2,29 @@ package com.chaitanya.evently.repository;
 
 import com.chaitanya.evently.model.Booking;
 import com.chaitanya.evently.model.status.BookingStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
     // Updated query to fix parameter type determination issues
 
+    @EntityGraph(attributePaths = { "user", "show", "show.venue", "show.event" })
+    Optional<Booking> findWithDetailsById(Long id);
+
+    @EntityGraph(attributePaths = { "user", "show", "show.venue", "show.event" })
     @Query("SELECT b FROM Booking b WHERE b.user.id = :userId")
     Page<Booking> findByUserId(@Param("userId") Long userId, Pageable pageable);
 
@@ -27,12 +37,29 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     @Query("SELECT b FROM Booking b WHERE b.user.id = :userId AND b.show.id = :showId")
     Page<Booking> findByUserIdAndShowId(@Param("userId") Long userId, @Param("showId") Long showId, Pageable pageable);
 
+    @EntityGraph(attributePaths = { "user", "show", "show.venue", "show.event" })
     @Query("SELECT b FROM Booking b WHERE b.show.id = :showId")
     Page<Booking> findByShowId(@Param("showId") Long showId, Pageable pageable);
 
+    @EntityGraph(attributePaths = { "user", "show", "show.venue", "show.event" })
     @Query("SELECT b FROM Booking b WHERE b.show.id IN :showIds")
     Page<Booking> findByShowIdIn(@Param("showIds") List<Long> showIds, Pageable pageable);
 
+    @EntityGraph(attributePaths = { "user", "show", "show.venue", "show.event" })
+    @Query("SELECT b FROM Booking b WHERE b.show.venue.id = :venueId")
+    Page<Booking> findByVenueId(@Param("venueId") Long venueId, Pageable pageable);
+
+    @EntityGraph(attributePaths = { "user", "show", "show.venue", "show.event" })
+    @Query("SELECT b FROM Booking b WHERE b.show.event.id = :eventId")
+    Page<Booking> findByEventId(@Param("eventId") Long eventId, Pageable pageable);
+
+    // Keyset variants: continue after the (createdAt, id) position of the previous page
+    @EntityGraph(attributePaths = { "user", "show", "show.venue", "show.event" })
+    Window<Booking> findByShowVenueId(Long venueId, ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph(attributePaths = { "user", "show", "show.venue", "show.event" })
+    Window<Booking> findByShowEventId(Long eventId, ScrollPosition position, Sort sort, Limit limit);
+
     @Query("SELECT b FROM Booking b WHERE b.user.id = :userId AND b.show.id IN :showIds")
     Page<Booking> findByUserIdAndShowIdIn(@Param("userId") Long userId, @Param("showIds") List<Long> showIds,
             Pageable pageable);
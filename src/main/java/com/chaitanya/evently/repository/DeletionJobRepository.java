@@ -0,0 +1,57 @@
+package com.chaitanya.evently.repository;
+
+import com.chaitanya.evently.model.DeletionJob;
+import com.chaitanya.evently.model.status.DeletionJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DeletionJobRepository extends JpaRepository<DeletionJob, Long> {
+
+    Optional<DeletionJob> findFirstByTargetTypeAndTargetIdAndStatusIn(DeletionJob.TargetType targetType,
+            Long targetId, Collection<DeletionJobStatus> statuses);
+
+    /**
+     * Claims a freshly submitted job; returns 0 if another node already took it
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE deletion_jobs SET status = 'RUNNING', updated_at = CURRENT_TIMESTAMP, "
+            + "started_at = COALESCE(started_at, CURRENT_TIMESTAMP) "
+            + "WHERE id = :id AND status = 'PENDING'", nativeQuery = true)
+    int claimPendingJob(@Param("id") Long id);
+
+    /**
+     * Pending or abandoned running jobs whose heartbeat is older than the cutoff
+     */
+    @Query(value = "SELECT id FROM deletion_jobs WHERE status IN ('PENDING', 'RUNNING') "
+            + "AND updated_at < :staleBefore ORDER BY id", nativeQuery = true)
+    List<Long> findStaleJobIds(@Param("staleBefore") Instant staleBefore);
+
+    /**
+     * Claims a job whose heartbeat is still older than the cutoff; returns 0 if
+     * another node already took it
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE deletion_jobs SET status = 'RUNNING', updated_at = CURRENT_TIMESTAMP, "
+            + "started_at = COALESCE(started_at, CURRENT_TIMESTAMP) "
+            + "WHERE id = :id AND status IN ('PENDING', 'RUNNING') AND updated_at < :staleBefore",
+            nativeQuery = true)
+    int claimStaleJob(@Param("id") Long id, @Param("staleBefore") Instant staleBefore);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE deletion_jobs SET current_step = :step, rows_deleted = rows_deleted + :rows, "
+            + "updated_at = CURRENT_TIMESTAMP WHERE id = :id", nativeQuery = true)
+    int recordProgress(@Param("id") Long id, @Param("step") String step, @Param("rows") long rows);
+}
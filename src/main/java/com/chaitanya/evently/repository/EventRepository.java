@@ -34,6 +34,21 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     @Query("SELECT e FROM Event e WHERE e.title = :title AND e.status IN ('LIVE', 'CLOSED')")
     Optional<Event> findLiveAndClosedEventByTitle(@Param("title") String title);
 
+    // Ranked search: full-text match on the weighted search_vector, or trigram match on title/category for typos.
+    // Both branches are served by GIN indexes (see V13).
+    @Query(value = "SELECT e.* FROM events e, websearch_to_tsquery('english', :q) query "
+            + "WHERE e.status IN ('LIVE', 'CLOSED') "
+            + "AND (e.search_vector @@ query OR e.title % :q OR e.category % :q) "
+            + "AND (CAST(:category AS VARCHAR) IS NULL OR e.category = :category) "
+            + "ORDER BY ts_rank_cd(e.search_vector, query) + similarity(e.title, :q) DESC, e.id",
+            countQuery = "SELECT count(*) FROM events e, websearch_to_tsquery('english', :q) query "
+                    + "WHERE e.status IN ('LIVE', 'CLOSED') "
+                    + "AND (e.search_vector @@ query OR e.title % :q OR e.category % :q) "
+                    + "AND (CAST(:category AS VARCHAR) IS NULL OR e.category = :category)",
+            nativeQuery = true)
+    Page<Event> searchLiveAndClosedEvents(@Param("q") String query, @Param("category") String category,
+            Pageable pageable);
+
     Optional<Event> findByTitle(String title);
 
     boolean existsByTitle(String title);
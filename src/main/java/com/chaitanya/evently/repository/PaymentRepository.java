@@ -4,6 +4,7 @@ import com.chaitanya.evently.model.Payment;
 import com.chaitanya.evently.model.status.PaymentStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -12,19 +13,33 @@ import org.springframework.stereotype.Repository;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
+    // Admin responses embed the booking's user, show, venue and event
+    @EntityGraph(attributePaths = { "booking", "booking.user", "booking.show", "booking.show.venue", "booking.show.event" })
+    Optional<Payment> findWithDetailsById(Long id);
+
+    @EntityGraph(attributePaths = { "booking", "booking.user", "booking.show", "booking.show.venue", "booking.show.event" })
+    @Query("SELECT p FROM Payment p")
+    Page<Payment> findAllWithDetails(Pageable pageable);
+
+    // User responses only need the booking id, which the uninitialized proxy carries
     @Query("SELECT p FROM Payment p WHERE p.booking.user.id = :userId")
     Page<Payment> findByUserId(@Param("userId") Long userId, Pageable pageable);
 
     @Query("SELECT p FROM Payment p WHERE p.status = :status")
     List<Payment> findByStatus(@Param("status") PaymentStatus status);
 
+    @EntityGraph(attributePaths = { "booking", "booking.user", "booking.show", "booking.show.venue", "booking.show.event" })
     @Query("SELECT p FROM Payment p WHERE p.booking.id = :bookingId and p.status = 'SUCCESS'")
     Payment findByBookingId(@Param("bookingId") Long bookingId);
 
+    @Query("SELECT p FROM Payment p WHERE p.booking.id = :bookingId and p.status = 'SUCCESS' and p.createdAt >= :since")
+    Payment findByBookingId(@Param("bookingId") Long bookingId, @Param("since") Instant since);
+
     @Query("SELECT p FROM Payment p WHERE p.booking.user.id = :userId AND p.booking.show.id = :showId")
     Page<Payment> findByUserIdAndShowId(@Param("userId") Long userId, @Param("showId") Long showId, Pageable pageable);
 
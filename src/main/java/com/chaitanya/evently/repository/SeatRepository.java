@@ -1,8 +1,11 @@
 package com.chaitanya.evently.repository;
 
 import com.chaitanya.evently.model.Seat;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -11,20 +14,60 @@ import java.util.List;
 @Repository
 public interface SeatRepository extends JpaRepository<Seat, Long> {
 
+    // Query cache region for seat lookups; evicted whenever a venue's seat map changes
+    String SEAT_QUERY_REGION = "seat-queries";
+
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SEAT_QUERY_REGION) })
     List<Seat> findByVenueId(Long venueId);
 
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SEAT_QUERY_REGION) })
     @Query("SELECT s FROM Seat s WHERE s.venue.id = :venueId ORDER BY s.section, s.row, s.seatNumber")
     List<Seat> findByVenueIdOrdered(@Param("venueId") Long venueId);
 
-    boolean existsByVenueIdAndSectionAndRowAndSeatNumber(Long venueId, String section, String row, String seatNumber);
+    // Bypasses both caches, for reading back seats written by native statements in the same transaction
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE"))
+    @Query("SELECT s FROM Seat s WHERE s.venue.id = :venueId ORDER BY s.section, s.row, s.seatNumber")
+    List<Seat> findByVenueIdOrderedUncached(@Param("venueId") Long venueId);
 
+    @QueryHints({ @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SEAT_QUERY_REGION) })
     @Query("SELECT s FROM Seat s WHERE s.venue.id = :venueId AND s.section = :section AND s.row = :row AND s.seatNumber = :seatNumber")
     java.util.Optional<Seat> findByVenueIdAndSectionAndRowAndSeatNumber(@Param("venueId") Long venueId,
             @Param("section") String section,
             @Param("row") String row,
             @Param("seatNumber") String seatNumber);
 
-    void deleteByVenueId(Long venueId);
+    /**
+     * Generates every seat for the given rows in one set-based insert; seats that
+     * already exist are skipped. Rows are passed as parallel arrays (section, row
+     * id, seat count) and expanded with generate_series. Returns how many seats
+     * were inserted and the venue's resulting seat count.
+     */
+    @Query(value = """
+            WITH inserted AS (
+                INSERT INTO seats (venue_id, section, "row", seat_number)
+                SELECT :venueId, r.section, r.row_id, gs::text
+                FROM unnest(CAST(:sections AS text[]), CAST(:rowIds AS text[]), CAST(:seatCounts AS int[]))
+                    AS r(section, row_id, seat_count)
+                CROSS JOIN LATERAL generate_series(1, r.seat_count) AS gs
+                ON CONFLICT ON CONSTRAINT uk_seat_unique DO NOTHING
+                RETURNING 1
+            )
+            SELECT (SELECT COUNT(*) FROM inserted) AS inserted,
+                   (SELECT COUNT(*) FROM seats WHERE venue_id = :venueId) + (SELECT COUNT(*) FROM inserted) AS capacity
+            """, nativeQuery = true)
+    SeatInsertResult bulkInsertRows(@Param("venueId") Long venueId,
+            @Param("sections") String[] sections,
+            @Param("rowIds") String[] rowIds,
+            @Param("seatCounts") Integer[] seatCounts);
+
+    interface SeatInsertResult {
+        long getInserted();
+
+        long getCapacity();
+    }
 
     long countByVenueId(Long venueId);
 }
@@ -4,12 +4,15 @@ import com.chaitanya.evently.model.Show;
 import com.chaitanya.evently.model.status.ShowStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ShowRepository extends JpaRepository<Show, Long> {
@@ -23,20 +26,60 @@ public interface ShowRepository extends JpaRepository<Show, Long> {
     @Query("SELECT s FROM Show s WHERE s.venue.id = :venueId")
     List<Show> findByVenueId(@Param("venueId") Long venueId);
 
+    @EntityGraph(attributePaths = { "venue", "event" })
+    Optional<Show> findWithVenueAndEventById(Long id);
+
+    // Served by the GiST index behind excl_shows_venue_time_overlap; excludeShowId may be null
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM shows s WHERE s.venue_id = :venueId "
+            + "AND s.status <> 'CANCELLED' "
+            + "AND s.time_range && tstzrange(CAST(:startTimestamp AS TIMESTAMPTZ), CAST(:endTimestamp AS TIMESTAMPTZ), '[)') "
+            + "AND (CAST(:excludeShowId AS BIGINT) IS NULL OR s.id <> :excludeShowId))", nativeQuery = true)
+    boolean existsOverlappingShow(@Param("venueId") Long venueId, @Param("startTimestamp") Instant startTimestamp,
+            @Param("endTimestamp") Instant endTimestamp, @Param("excludeShowId") Long excludeShowId);
+
+    // Active shows at the venue intersecting [from, to), in one range scan on the exclusion index
+    @Query(value = "SELECT s.* FROM shows s WHERE s.venue_id = :venueId "
+            + "AND s.status <> 'CANCELLED' "
+            + "AND s.time_range && tstzrange(CAST(:from AS TIMESTAMPTZ), CAST(:to AS TIMESTAMPTZ), '[)') "
+            + "ORDER BY s.start_timestamp", nativeQuery = true)
+    List<Show> findActiveByVenueIdInRange(@Param("venueId") Long venueId, @Param("from") Instant from,
+            @Param("to") Instant to);
+
+    /**
+     * Inserts one LIVE show per start timestamp (ISO-8601 strings) in a single
+     * statement. Returns the new ids ordered by start timestamp.
+     */
+    @Query(value = """
+            WITH inserted AS (
+                INSERT INTO shows (venue_id, event_id, start_timestamp, duration_minutes, status)
+                SELECT :venueId, :eventId, starts.start_timestamp, :durationMinutes, 'LIVE'
+                FROM unnest(CAST(:startTimestamps AS timestamptz[])) AS starts(start_timestamp)
+                RETURNING id, start_timestamp
+            )
+            SELECT id FROM inserted ORDER BY start_timestamp
+            """, nativeQuery = true)
+    List<Long> insertBatch(@Param("venueId") Long venueId, @Param("eventId") Long eventId,
+            @Param("startTimestamps") String[] startTimestamps, @Param("durationMinutes") Integer durationMinutes);
+
+    // Closed or cancelled before the cutoff and not archived yet; served by idx_shows_archive_pending
+    @Query(value = "SELECT s.id FROM shows s WHERE s.archived_at IS NULL "
+            + "AND s.status IN ('CLOSED', 'CANCELLED') AND s.updated_at < :before "
+            + "ORDER BY s.updated_at LIMIT :limit", nativeQuery = true)
+    List<Long> findIdsPendingArchive(@Param("before") Instant before, @Param("limit") int limit);
+
+    @EntityGraph(attributePaths = { "venue", "event" })
     @Query("SELECT s FROM Show s WHERE s.venue.id = :venueId")
     Page<Show> findByVenueId(@Param("venueId") Long venueId, Pageable pageable);
 
+    @EntityGraph(attributePaths = { "venue", "event" })
     @Query("SELECT s FROM Show s WHERE s.event.id = :eventId")
     Page<Show> findByEventId(@Param("eventId") Long eventId, Pageable pageable);
 
     @Query("SELECT s FROM Show s WHERE s.event.id = :eventId")
     List<Show> findByEventId(@Param("eventId") Long eventId);
 
+    @EntityGraph(attributePaths = { "venue", "event" })
     @Query("SELECT s FROM Show s WHERE s.venue.id = :venueId AND s.event.id = :eventId")
     Page<Show> findByVenueIdAndEventId(@Param("venueId") Long venueId, @Param("eventId") Long eventId,
             Pageable pageable);
-
-    void deleteByVenueId(Long venueId);
-
-    void deleteByEventId(Long eventId);
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.chaitanya.evently.repository;
+
+import com.chaitanya.evently.model.ShowSalesCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ShowSalesCounterRepository extends JpaRepository<ShowSalesCounter, Long> {
+
+    // Atomic increment; joins the caller's transaction so counters commit or roll back with the booking
+    @Modifying
+    @Query(value = "INSERT INTO show_sales_counters (show_id, seats_sold, revenue, cancellations, updated_at) "
+            + "VALUES (:showId, :seatsSold, :revenue, :cancellations, now()) "
+            + "ON CONFLICT (show_id) DO UPDATE SET "
+            + "seats_sold = show_sales_counters.seats_sold + EXCLUDED.seats_sold, "
+            + "revenue = show_sales_counters.revenue + EXCLUDED.revenue, "
+            + "cancellations = show_sales_counters.cancellations + EXCLUDED.cancellations, "
+            + "updated_at = now()", nativeQuery = true)
+    int applyDelta(@Param("showId") Long showId, @Param("seatsSold") int seatsSold,
+            @Param("revenue") BigDecimal revenue, @Param("cancellations") int cancellations);
+
+    // Recomputes counters from tickets and bookings for shows starting at or after :since
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO show_sales_counters (show_id, seats_sold, revenue, cancellations, updated_at) "
+            + "SELECT s.id, "
+            + "(SELECT count(*) FROM tickets t JOIN bookings b ON b.id = t.booking_id WHERE b.show_id = s.id), "
+            + "(SELECT coalesce(sum(b.total_amount), 0) FROM bookings b WHERE b.show_id = s.id AND b.status = 'CONFIRMED'), "
+            + "(SELECT count(*) FROM bookings b WHERE b.show_id = s.id AND b.status = 'CANCELLED'), "
+            + "now() "
+            + "FROM shows s WHERE s.start_timestamp >= :since "
+            + "ON CONFLICT (show_id) DO UPDATE SET "
+            + "seats_sold = EXCLUDED.seats_sold, revenue = EXCLUDED.revenue, "
+            + "cancellations = EXCLUDED.cancellations, updated_at = now() "
+            + "WHERE (show_sales_counters.seats_sold, show_sales_counters.revenue, show_sales_counters.cancellations) "
+            + "IS DISTINCT FROM (EXCLUDED.seats_sold, EXCLUDED.revenue, EXCLUDED.cancellations)", nativeQuery = true)
+    int reconcileShowsStartingSince(@Param("since") Instant since);
+
+    // Of the given shows, those whose rollup says every seat of the venue is sold
+    @Query(value = "SELECT s.id FROM shows s JOIN venues v ON v.id = s.venue_id "
+            + "JOIN show_sales_counters c ON c.show_id = s.id "
+            + "WHERE s.id IN (:showIds) AND v.capacity > 0 AND c.seats_sold >= v.capacity", nativeQuery = true)
+    List<Long> findSoldOutShowIds(@Param("showIds") Collection<Long> showIds);
+
+    @Query("SELECT c.showId FROM ShowSalesCounter c "
+            + "WHERE c.showId IN (SELECT s.id FROM Show s WHERE s.startTimestamp >= :since)")
+    List<Long> findShowIdsStartingSince(@Param("since") Instant since);
+
+    @Query("SELECT c FROM ShowSalesCounter c WHERE c.showId IN (SELECT s.id FROM Show s WHERE s.startTimestamp >= :since)")
+    List<ShowSalesCounter> findByShowsStartingSince(@Param("since") Instant since);
+}
@@ -3,28 +3,57 @@ package com.chaitanya.evently.repository;
 import com.chaitanya.evently.model.Ticket;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TicketRepository extends JpaRepository<Ticket, Long> {
 
-    @Query("SELECT t FROM Ticket t WHERE t.booking.user.id = :userId")
-    Page<Ticket> findByUserId(@Param("userId") Long userId, Pageable pageable);
+    // Ticket responses embed the booking's user, show, venue and event and the seat
+    @EntityGraph(attributePaths = { "booking", "booking.user", "booking.show", "booking.show.venue", "booking.show.event",
+            "seat" })
+    Optional<Ticket> findWithDetailsById(Long id);
 
-    @Query("SELECT COUNT(t) FROM Ticket t WHERE t.booking.id = :bookingId")
-    Long countByBookingId(@Param("bookingId") Long bookingId);
+    @EntityGraph(attributePaths = { "booking", "booking.user", "booking.show", "booking.show.venue", "booking.show.event",
+            "seat" })
+    @Query("SELECT t FROM Ticket t")
+    Page<Ticket> findAllWithDetails(Pageable pageable);
 
-    @Query("SELECT t.seat.id FROM Ticket t WHERE t.booking.show.id = :showId")
-    List<Long> findBookedSeatIdsByShowId(@Param("showId") Long showId);
+    @EntityGraph(attributePaths = { "booking", "booking.user", "booking.show", "booking.show.venue", "booking.show.event",
+            "seat" })
+    @Query("SELECT t FROM Ticket t WHERE t.booking.user.id = :userId")
+    Page<Ticket> findByUserId(@Param("userId") Long userId, Pageable pageable);
 
+    /**
+     * since bounds created_at so only the partitions from the booking's month on are scanned
+     */
+    @Query("SELECT COUNT(t) FROM Ticket t WHERE t.booking.id = :bookingId AND t.createdAt >= :since")
+    Long countByBookingId(@Param("bookingId") Long bookingId, @Param("since") Instant since);
+
+    /**
+     * since bounds created_at on tickets and bookings so older partitions are pruned
+     */
+    @Query("SELECT t.seat.id FROM Ticket t WHERE t.booking.show.id = :showId "
+            + "AND t.createdAt >= :since AND t.booking.createdAt >= :since")
+    List<Long> findBookedSeatIdsByShowId(@Param("showId") Long showId, @Param("since") Instant since);
+
+    @EntityGraph(attributePaths = { "booking", "booking.user", "booking.show", "booking.show.venue", "booking.show.event",
+            "seat" })
     @Query("SELECT t FROM Ticket t WHERE t.booking.id = :bookingId")
     List<Ticket> findByBookingId(@Param("bookingId") Long bookingId);
 
+    @Query("SELECT t FROM Ticket t WHERE t.booking.id = :bookingId AND t.createdAt >= :since")
+    List<Ticket> findByBookingId(@Param("bookingId") Long bookingId, @Param("since") Instant since);
+
+    @EntityGraph(attributePaths = { "booking", "booking.user", "booking.show", "booking.show.venue", "booking.show.event",
+            "seat" })
     @Query("SELECT t FROM Ticket t WHERE t.booking.user.id = :userId AND t.booking.show.id = :showId")
     Page<Ticket> findByUserIdAndShowId(@Param("userId") Long userId, @Param("showId") Long showId, Pageable pageable);
 
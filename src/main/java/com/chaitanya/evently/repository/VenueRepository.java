@@ -1,7 +1,11 @@
 package com.chaitanya.evently.repository;
 
 import com.chaitanya.evently.model.Venue;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -12,4 +16,11 @@ public interface VenueRepository extends JpaRepository<Venue, Long> {
     Optional<Venue> findByName(String name);
 
     boolean existsByName(String name);
+
+    /**
+     * Loads the venue with a row lock, serializing seat map changes so capacity stays consistent
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT v FROM Venue v WHERE v.id = :id")
+    Optional<Venue> findByIdForUpdate(@Param("id") Long id);
 }
@@ -0,0 +1,131 @@
+package com.chaitanya.evently.service;
+
+import com.chaitanya.evently.exception.types.BadRequestException;
+import com.chaitanya.evently.exception.types.ConflictException;
+import com.chaitanya.evently.exception.types.NotFoundException;
+import com.chaitanya.evently.jfr.BookingStageEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Timers and counters for the booking workflow. Every flow (reserve, pay,
+ * cancel) records an end-to-end timer and one timer per stage, tagged with
+ * the outcome, all with percentile histograms for SLO dashboards. Stages are
+ * also emitted as JFR events so recordings line them up with GC and locks.
+ */
+@Service
+@RequiredArgsConstructor
+public class BookingMetrics {
+
+    public static final String FLOW_RESERVE = "reserve";
+    public static final String FLOW_PAY = "pay";
+    public static final String FLOW_CANCEL = "cancel";
+
+    public static final String SUCCESS = "success";
+    // Refused for a business reason (seat taken, validation, not found); not a fault
+    public static final String REJECTED = "rejected";
+    public static final String ERROR = "error";
+
+    public static final String CONFLICT_DATABASE = "database";
+    public static final String CONFLICT_REDIS = "redis";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Runs one stage of a flow and records its duration tagged with the outcome
+     */
+    public <T> T stage(String flow, String stage, Supplier<T> step) {
+        BookingStageEvent event = new BookingStageEvent();
+        event.begin();
+        long start = System.nanoTime();
+        String outcome = ERROR;
+        try {
+            T result = step.get();
+            outcome = SUCCESS;
+            return result;
+        } catch (RuntimeException e) {
+            outcome = outcomeOf(e);
+            throw e;
+        } finally {
+            stageTimer(flow, stage, outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            event.end();
+            if (event.shouldCommit()) {
+                event.flow = flow;
+                event.stage = stage;
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+
+    public void stage(String flow, String stage, Runnable step) {
+        stage(flow, stage, () -> {
+            step.run();
+            return null;
+        });
+    }
+
+    /**
+     * Records the end-to-end duration of a flow started at startNanos
+     */
+    public void recordFlow(String flow, long startNanos, String outcome) {
+        Timer.builder("booking.flow")
+                .description("End-to-end duration of a booking workflow call")
+                .tag("flow", flow)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Seats already booked (database) or held by another reservation (redis)
+     */
+    public void lockConflict(String source) {
+        Counter.builder("booking.lock.conflicts")
+                .description("Reservation attempts that lost a seat to another booking or hold")
+                .tag("source", source)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void reservationExpired() {
+        Counter.builder("booking.reservations.expired")
+                .description("Payments attempted for a reservation that had expired or never existed")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void paymentMismatch() {
+        Counter.builder("booking.payment.mismatches")
+                .description("Payments whose amount did not match the reservation")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public static String outcomeOf(Throwable e) {
+        // Business rejections never carry a cause; a wrapped fault is still an error
+        boolean business = e instanceof BadRequestException || e instanceof NotFoundException
+                || e instanceof ConflictException;
+        if (business && e.getCause() == null) {
+            return REJECTED;
+        }
+        return ERROR;
+    }
+
+    private Timer stageTimer(String flow, String stage, String outcome) {
+        return Timer.builder("booking.stage")
+                .description("Duration of one stage of a booking workflow call")
+                .tag("flow", flow)
+                .tag("stage", stage)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
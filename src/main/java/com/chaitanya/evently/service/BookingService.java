@@ -1,26 +1,30 @@
 package com.chaitanya.evently.service;
 
+import com.chaitanya.evently.config.PrimaryRouting;
 import com.chaitanya.evently.dto.PaginationResponse;
+import com.chaitanya.evently.dto.booking.BookingResponse;
 import com.chaitanya.evently.dto.booking.BookingStatusUpdateRequest;
 import com.chaitanya.evently.dto.event.PaginationRequest;
 import com.chaitanya.evently.exception.types.BadRequestException;
 import com.chaitanya.evently.exception.types.NotFoundException;
+import com.chaitanya.evently.logging.LogMarkers;
 import com.chaitanya.evently.model.Booking;
 import com.chaitanya.evently.model.status.BookingStatus;
 import com.chaitanya.evently.repository.BookingRepository;
-import com.chaitanya.evently.repository.ShowRepository;
 import com.chaitanya.evently.repository.TicketRepository;
+import com.chaitanya.evently.util.CursorUtil;
+import com.chaitanya.evently.util.PartitionUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -28,23 +32,30 @@ public class BookingService {
 
     private final BookingRepository bookingRepository;
     private final TicketRepository ticketRepository;
-    private final ShowRepository showRepository;
     private final BookingWorkflowService bookingWorkflowService;
+    private final ShowSalesCounterService showSalesCounterService;
+    private final SoldOutService soldOutService;
 
+    /**
+     * Read from the primary so a just-paid booking is never served stale
+     */
     @Transactional(readOnly = true)
-    public Booking getBookingById(Long id) {
-        Booking booking = bookingRepository.findById(id)
+    public BookingResponse getBookingById(Long id) {
+        Booking booking = PrimaryRouting.call(() -> bookingRepository.findWithDetailsById(id))
                 .orElseThrow(() -> new NotFoundException("Booking not found with id: " + id));
-        return booking;
+        return BookingResponse.from(booking);
     }
 
+    /**
+     * Read from the primary, see getBookingById
+     */
     @Transactional(readOnly = true)
-    public PaginationResponse<Booking> getBookingsByUserId(Long userId, PaginationRequest paginationRequest,
+    public PaginationResponse<BookingResponse> getBookingsByUserId(Long userId, PaginationRequest paginationRequest,
             String baseUrl) {
         Pageable pageable = createPageable(paginationRequest);
-        Page<Booking> bookingPage = bookingRepository.findByUserId(userId, pageable);
+        Page<Booking> bookingPage = PrimaryRouting.call(() -> bookingRepository.findByUserId(userId, pageable));
 
-        return PaginationResponse.fromPage(bookingPage, baseUrl);
+        return PaginationResponse.fromPage(bookingPage.map(BookingResponse::from), baseUrl);
     }
 
     @Transactional
@@ -63,11 +74,11 @@ public class BookingService {
         // If booking is cancelled, delete all associated tickets
         if (newStatus == BookingStatus.CANCELLED) {
             bookingWorkflowService.cancelBooking(id, booking.getUser().getId());
-            log.info("Cancelled booking with id: {}", id);
+            log.info(LogMarkers.STATE_TRANSITION, "Cancelled booking with id: {}", id);
         }
 
         Booking updatedBooking = bookingRepository.save(booking);
-        log.info("Updated booking status from {} to {} for booking with id: {}",
+        log.info(LogMarkers.STATE_TRANSITION, "Updated booking status from {} to {} for booking with id: {}",
                 currentStatus, newStatus, updatedBooking.getId());
 
         return updatedBooking;
@@ -78,6 +89,15 @@ public class BookingService {
         Booking booking = bookingRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Booking not found with id: " + id));
 
+        // A confirmed booking still counts towards the show's sales until it is removed
+        if (booking.getStatus() == BookingStatus.CONFIRMED) {
+            long ticketCount = ticketRepository.countByBookingId(id,
+                    PartitionUtil.createdSince(booking.getCreatedAt()));
+            showSalesCounterService.recordRemoval(booking.getShow().getId(), (int) ticketCount,
+                    booking.getTotalAmount());
+            soldOutService.markAvailableAfterCommit(booking.getShow().getId());
+        }
+
         // Delete all associated tickets first
         ticketRepository.deleteByBookingId(id);
 
@@ -86,82 +106,46 @@ public class BookingService {
     }
 
     @Transactional(readOnly = true)
-    public PaginationResponse<Booking> getBookingsByVenueId(Long venueId, PaginationRequest paginationRequest,
+    public PaginationResponse<BookingResponse> getBookingsByVenueId(Long venueId, PaginationRequest paginationRequest,
             String baseUrl) {
-        // Get all shows for the venue, then get bookings for those shows
-        List<Long> showIds = showRepository.findByVenueId(venueId).stream()
-                .map(show -> show.getId())
-                .toList();
-
-        if (showIds.isEmpty()) {
-            return PaginationResponse.<Booking>builder()
-                    .isPaginated(false)
-                    .content(java.util.Collections.emptyList())
-                    .page(PaginationResponse.PageMeta.builder()
-                            .number(0)
-                            .size(paginationRequest.getSize())
-                            .totalElements(0)
-                            .totalPages(0)
-                            .build())
-                    .sort(PaginationResponse.SortMeta.builder()
-                            .fields(java.util.Collections.emptyList())
-                            .build())
-                    .links(PaginationResponse.Links.builder()
-                            .self(baseUrl)
-                            .first(baseUrl)
-                            .last(baseUrl)
-                            .build())
-                    .build();
+        Sort sort = createKeysetSort(paginationRequest);
+
+        if (paginationRequest.getCursor() != null) {
+            Window<Booking> bookingWindow = bookingRepository.findByShowVenueId(venueId,
+                    CursorUtil.decode(paginationRequest.getCursor()), sort, Limit.of(paginationRequest.getSize()));
+            return toKeysetResponse(bookingWindow, paginationRequest.getSize(), sort, baseUrl);
         }
 
-        Pageable pageable = createPageable(paginationRequest);
-        Page<Booking> bookingPage = bookingRepository.findByShowIdIn(showIds, pageable);
+        Pageable pageable = PageRequest.of(paginationRequest.getPage(), paginationRequest.getSize(), sort);
+        Page<Booking> bookingPage = bookingRepository.findByVenueId(venueId, pageable);
 
-        return PaginationResponse.fromPage(bookingPage, baseUrl);
+        return toOffsetResponseWithCursor(bookingPage, baseUrl);
     }
 
     @Transactional(readOnly = true)
-    public PaginationResponse<Booking> getBookingsByShowId(Long showId, PaginationRequest paginationRequest,
+    public PaginationResponse<BookingResponse> getBookingsByShowId(Long showId, PaginationRequest paginationRequest,
             String baseUrl) {
         Pageable pageable = createPageable(paginationRequest);
         Page<Booking> bookingPage = bookingRepository.findByShowId(showId, pageable);
 
-        return PaginationResponse.fromPage(bookingPage, baseUrl);
+        return PaginationResponse.fromPage(bookingPage.map(BookingResponse::from), baseUrl);
     }
 
     @Transactional(readOnly = true)
-    public PaginationResponse<Booking> getBookingsByEventId(Long eventId, PaginationRequest paginationRequest,
+    public PaginationResponse<BookingResponse> getBookingsByEventId(Long eventId, PaginationRequest paginationRequest,
             String baseUrl) {
-        // Get all shows for the event, then get bookings for those shows
-        List<Long> showIds = showRepository.findByEventId(eventId).stream()
-                .map(show -> show.getId())
-                .toList();
-
-        if (showIds.isEmpty()) {
-            return PaginationResponse.<Booking>builder()
-                    .isPaginated(false)
-                    .content(java.util.Collections.emptyList())
-                    .page(PaginationResponse.PageMeta.builder()
-                            .number(0)
-                            .size(paginationRequest.getSize())
-                            .totalElements(0)
-                            .totalPages(0)
-                            .build())
-                    .sort(PaginationResponse.SortMeta.builder()
-                            .fields(java.util.Collections.emptyList())
-                            .build())
-                    .links(PaginationResponse.Links.builder()
-                            .self(baseUrl)
-                            .first(baseUrl)
-                            .last(baseUrl)
-                            .build())
-                    .build();
+        Sort sort = createKeysetSort(paginationRequest);
+
+        if (paginationRequest.getCursor() != null) {
+            Window<Booking> bookingWindow = bookingRepository.findByShowEventId(eventId,
+                    CursorUtil.decode(paginationRequest.getCursor()), sort, Limit.of(paginationRequest.getSize()));
+            return toKeysetResponse(bookingWindow, paginationRequest.getSize(), sort, baseUrl);
         }
 
-        Pageable pageable = createPageable(paginationRequest);
-        Page<Booking> bookingPage = bookingRepository.findByShowIdIn(showIds, pageable);
+        Pageable pageable = PageRequest.of(paginationRequest.getPage(), paginationRequest.getSize(), sort);
+        Page<Booking> bookingPage = bookingRepository.findByEventId(eventId, pageable);
 
-        return PaginationResponse.fromPage(bookingPage, baseUrl);
+        return toOffsetResponseWithCursor(bookingPage, baseUrl);
     }
 
     private void validateBookingStateTransition(BookingStatus currentStatus, BookingStatus newStatus) {
@@ -196,4 +180,36 @@ public class BookingService {
         return PageRequest.of(paginationRequest.getPage(), paginationRequest.getSize(), sort);
     }
 
+    /**
+     * Sort for keyset-capable listings; id breaks ties so the cursor position is unique
+     */
+    private Sort createKeysetSort(PaginationRequest paginationRequest) {
+        return createPageable(paginationRequest).getSort().and(Sort.by(
+                "desc".equalsIgnoreCase(paginationRequest.getDirection()) ? Sort.Direction.DESC : Sort.Direction.ASC,
+                "id"));
+    }
+
+    private PaginationResponse<BookingResponse> toOffsetResponseWithCursor(Page<Booking> bookingPage,
+            String baseUrl) {
+        PaginationResponse<BookingResponse> response = PaginationResponse.fromPage(
+                bookingPage.map(BookingResponse::from), baseUrl);
+
+        if (bookingPage.hasNext()) {
+            Booking last = bookingPage.getContent().get(bookingPage.getNumberOfElements() - 1);
+            response.setNextCursor(CursorUtil.encode(last.getCreatedAt(), last.getId()));
+        }
+        return response;
+    }
+
+    private PaginationResponse<BookingResponse> toKeysetResponse(Window<Booking> bookingWindow, int size, Sort sort,
+            String baseUrl) {
+        String nextCursor = null;
+        if (bookingWindow.hasNext()) {
+            Booking last = bookingWindow.getContent().get(bookingWindow.size() - 1);
+            nextCursor = CursorUtil.encode(last.getCreatedAt(), last.getId());
+        }
+        return PaginationResponse.fromWindow(bookingWindow.map(BookingResponse::from), size, sort, baseUrl,
+                nextCursor);
+    }
+
 }
@@ -1,5 +1,6 @@
 package com.chaitanya.evently.service;
 
+import com.chaitanya.evently.config.PrimaryRouting;
 import com.chaitanya.evently.dto.seat.map.SeatMapResponse;
 import com.chaitanya.evently.dto.booking.BookingCreateRequest;
 import com.chaitanya.evently.dto.booking.BookingCreateResponse;
@@ -8,7 +9,12 @@ import com.chaitanya.evently.dto.booking.BookingPaymentResponse;
 import com.chaitanya.evently.dto.booking.BookingCancelResponse;
 import com.chaitanya.evently.dto.show.ShowSeatsResponse;
 import com.chaitanya.evently.exception.types.BadRequestException;
+import com.chaitanya.evently.exception.types.ConflictException;
 import com.chaitanya.evently.exception.types.NotFoundException;
+import com.chaitanya.evently.jfr.CancellationEvent;
+import com.chaitanya.evently.jfr.PaymentEvent;
+import com.chaitanya.evently.jfr.ReservationEvent;
+import com.chaitanya.evently.logging.LogMarkers;
 import com.chaitanya.evently.model.Booking;
 import com.chaitanya.evently.model.Email;
 import com.chaitanya.evently.model.Payment;
@@ -17,6 +23,7 @@ import com.chaitanya.evently.model.Seat;
 import com.chaitanya.evently.model.Show;
 import com.chaitanya.evently.model.Ticket;
 import com.chaitanya.evently.model.User;
+import com.chaitanya.evently.model.Venue;
 import com.chaitanya.evently.model.status.BookingStatus;
 import com.chaitanya.evently.model.status.PaymentStatus;
 import com.chaitanya.evently.model.status.RefundStatus;
@@ -28,6 +35,7 @@ import com.chaitanya.evently.repository.SeatRepository;
 import com.chaitanya.evently.repository.ShowRepository;
 import com.chaitanya.evently.repository.TicketRepository;
 import com.chaitanya.evently.repository.UserRepository;
+import com.chaitanya.evently.util.PartitionUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -53,23 +61,34 @@ public class BookingWorkflowService {
     private final RefundRepository refundRepository;
     private final EmailRepository emailRepository;
     private final SimpleRedisService redisService;
+    private final ShowSalesCounterService showSalesCounterService;
+    private final SoldOutService soldOutService;
+    private final BookingMetrics bookingMetrics;
 
     private static final int RESERVATION_TTL_SECONDS = 300; // 5 minutes
 
     /**
-     * Gets show seats with availability information
+     * Gets show seats with availability information, read from the primary so
+     * seats booked moments ago never show as free
      */
     public ShowSeatsResponse getShowSeats(Long showId) {
-        Show show = findShowById(showId);
+        return PrimaryRouting.call(() -> loadShowSeats(showId));
+    }
+
+    private ShowSeatsResponse loadShowSeats(Long showId) {
+        // Not transactional, so venue and event are fetched up front
+        Show show = showRepository.findWithVenueAndEventById(showId)
+                .orElseThrow(() -> new NotFoundException("Show not found with id: " + showId));
 
         List<Seat> allSeats = seatRepository.findByVenueId(show.getVenue().getId());
-        List<Long> bookedSeatIds = ticketRepository.findBookedSeatIdsByShowId(showId);
+        List<Long> bookedSeatIds = ticketRepository.findBookedSeatIdsByShowId(showId,
+                PartitionUtil.createdSince(show.getCreatedAt()));
 
         log.info("Retrieved {} total seats for show {}, {} already booked",
                 allSeats.size(), showId, bookedSeatIds.size());
 
         return ShowSeatsResponse.builder()
-                .seatMap(createSeatMapResponse(allSeats, bookedSeatIds))
+                .seatMap(createSeatMapResponse(allSeats, bookedSeatIds, show.getVenue().getName()))
                 .bookedSeatIds(bookedSeatIds)
                 .showId(showId)
                 .showName("Show " + showId)
@@ -85,71 +104,196 @@ public class BookingWorkflowService {
         log.info("Creating booking for user {} with {} seats for show {}",
                 userId, request.getSeats().size(), request.getShowId());
 
-        // Validate inputs
-        validateBookingRequest(request);
+        ReservationEvent event = new ReservationEvent();
+        event.begin();
+        long started = System.nanoTime();
+        String outcome = BookingMetrics.ERROR;
+        try {
+            // Repository reads default to read-only transactions; availability checks must not see a lagging replica
+            BookingCreateResponse response = PrimaryRouting.call(() -> reserve(request, userId, event));
+            outcome = BookingMetrics.SUCCESS;
+            return response;
+        } catch (RuntimeException e) {
+            outcome = BookingMetrics.outcomeOf(e);
+            throw e;
+        } finally {
+            bookingMetrics.recordFlow(BookingMetrics.FLOW_RESERVE, started, outcome);
+            event.end();
+            if (event.shouldCommit()) {
+                event.showId = request.getShowId() == null ? 0 : request.getShowId();
+                event.userId = userId == null ? 0 : userId;
+                event.seatCount = request.getSeats() == null ? 0 : request.getSeats().size();
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Processes payment for a reservation and creates booking
+     */
+    @Transactional
+    public BookingPaymentResponse processPayment(BookingPaymentRequest request, Long userId) {
+        log.info("Processing payment for reservation {} by user {}", request.getReservationId(), userId);
+
+        PaymentEvent event = new PaymentEvent();
+        event.begin();
+        long started = System.nanoTime();
+        String outcome = BookingMetrics.ERROR;
+        try {
+            BookingPaymentResponse response = pay(request, userId, event);
+            outcome = BookingMetrics.SUCCESS;
+            return response;
+        } catch (RuntimeException e) {
+            outcome = BookingMetrics.outcomeOf(e);
+            throw e;
+        } finally {
+            bookingMetrics.recordFlow(BookingMetrics.FLOW_PAY, started, outcome);
+            event.end();
+            if (event.shouldCommit()) {
+                event.reservationId = request.getReservationId();
+                event.userId = userId == null ? 0 : userId;
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Cancels a booking and processes refund
+     */
+    @Transactional
+    public BookingCancelResponse cancelBooking(Long bookingId, Long userId) {
+        log.info("Cancelling booking {} for user {}", bookingId, userId);
 
-        Show show = findShowById(request.getShowId());
-        List<Seat> requestedSeats = findAndValidateSeats(request.getSeats(), show.getVenue().getId());
+        CancellationEvent event = new CancellationEvent();
+        event.begin();
+        long started = System.nanoTime();
+        String outcome = BookingMetrics.ERROR;
+        try {
+            BookingCancelResponse response = cancel(bookingId, userId, event);
+            outcome = BookingMetrics.SUCCESS;
+            return response;
+        } catch (RuntimeException e) {
+            outcome = BookingMetrics.outcomeOf(e);
+            throw e;
+        } finally {
+            bookingMetrics.recordFlow(BookingMetrics.FLOW_CANCEL, started, outcome);
+            event.end();
+            if (event.shouldCommit()) {
+                event.bookingId = bookingId == null ? 0 : bookingId;
+                event.userId = userId == null ? 0 : userId;
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+
+    // =============== WORKFLOW STAGES ===============
+
+    private BookingCreateResponse reserve(BookingCreateRequest request, Long userId, ReservationEvent event) {
+        String flow = BookingMetrics.FLOW_RESERVE;
+
+        // Validate inputs and reject sold-out shows before touching the database or Redis
+        bookingMetrics.stage(flow, "validation", () -> {
+            validateBookingRequest(request);
+            if (soldOutService.isSoldOut(request.getShowId())) {
+                throw new BadRequestException("Show is sold out");
+            }
+        });
+
+        Show show = bookingMetrics.stage(flow, "show_lookup", () -> findShowById(request.getShowId()));
+        List<Seat> requestedSeats = bookingMetrics.stage(flow, "seat_resolution",
+                () -> findAndValidateSeats(request.getSeats(), show.getVenue().getId()));
         List<Long> seatIds = requestedSeats.stream().map(Seat::getId).toList();
 
         // Check database for already booked seats
-        validateSeatsNotBooked(seatIds, request.getShowId());
-
-        // Check Redis for seat locks (if Redis is available)
-        if (redisService.isRedisAvailable() && !redisService.areSeatsAvailable(seatIds)) {
-            throw new BadRequestException("Some seats are currently being reserved by another user. Please try again.");
+        try {
+            bookingMetrics.stage(flow, "db_conflict_check", () -> validateSeatsNotBooked(seatIds, show));
+        } catch (BadRequestException e) {
+            event.conflict = BookingMetrics.CONFLICT_DATABASE;
+            throw e;
         }
 
         // Calculate total amount
         BigDecimal totalAmount = calculateTotalAmount(requestedSeats);
 
-        // Create reservation with seat locking
-        String reservationId = redisService.createReservation(
-                userId,
-                request.getShowId(),
-                seatIds,
-                totalAmount.toString());
+        // Check Redis for seat locks (if Redis is available), then lock them with the reservation
+        String reservationId = bookingMetrics.stage(flow, "redis_lock", () -> {
+            if (redisService.isRedisAvailable() && !redisService.areSeatsAvailable(seatIds)) {
+                bookingMetrics.lockConflict(BookingMetrics.CONFLICT_REDIS);
+                event.conflict = BookingMetrics.CONFLICT_REDIS;
+                throw new BadRequestException(
+                        "Some seats are currently being reserved by another user. Please try again.");
+            }
 
-        if (reservationId == null) {
-            throw new BadRequestException(
-                    "Selected seats are currently being reserved by another user. Please select different seats.");
-        }
+            String id = redisService.createReservation(
+                    userId,
+                    request.getShowId(),
+                    seatIds,
+                    totalAmount.toString());
+
+            if (id == null) {
+                bookingMetrics.lockConflict(BookingMetrics.CONFLICT_REDIS);
+                event.conflict = BookingMetrics.CONFLICT_REDIS;
+                throw new BadRequestException(
+                        "Selected seats are currently being reserved by another user. Please select different seats.");
+            }
+            return id;
+        });
 
-        log.info("Successfully created reservation {} for user {} with {} seats, total amount: {}",
+        log.info(LogMarkers.STATE_TRANSITION,
+                "Successfully created reservation {} for user {} with {} seats, total amount: {}",
                 reservationId, userId, seatIds.size(), totalAmount);
 
+        Instant expiresAt = Instant.now().plusSeconds(RESERVATION_TTL_SECONDS);
+        bookingMetrics.stage(flow, "sales_counters",
+                () -> showSalesCounterService.recordHold(request.getShowId(), reservationId, seatIds.size(),
+                        expiresAt));
+
         return BookingCreateResponse.builder()
                 .reservationId(reservationId)
                 .totalAmount(totalAmount)
-                .expiresAt(Instant.now().plusSeconds(RESERVATION_TTL_SECONDS))
+                .expiresAt(expiresAt)
                 .message("Seats reserved successfully. Complete payment within 5 minutes to confirm your booking.")
                 .success(true)
                 .build();
     }
 
-    /**
-     * Processes payment for a reservation and creates booking
-     */
-    @Transactional
-    public BookingPaymentResponse processPayment(BookingPaymentRequest request, Long userId) {
-        log.info("Processing payment for reservation {} by user {}", request.getReservationId(), userId);
-
-        // Validate reservation
-        SimpleRedisService.ReservationData reservation = validateReservation(request.getReservationId(), userId);
+    private BookingPaymentResponse pay(BookingPaymentRequest request, Long userId, PaymentEvent event) {
+        String flow = BookingMetrics.FLOW_PAY;
 
-        // Validate payment amount
-        validatePaymentAmount(request.getAmount(), reservation.getTotalAmount());
+        // Validate reservation and payment amount
+        SimpleRedisService.ReservationData reservation = bookingMetrics.stage(flow, "reservation_lookup",
+                () -> validateReservation(request.getReservationId(), userId));
+        event.showId = reservation.getShowId();
+        event.seatCount = reservation.getSeatIds().size();
+        bookingMetrics.stage(flow, "validation",
+                () -> validatePaymentAmount(request.getAmount(), reservation.getTotalAmount()));
 
         try {
             // Create database entities atomically
-            DatabaseEntities entities = createDatabaseEntities(reservation, userId, request.getAmount());
+            DatabaseEntities entities = bookingMetrics.stage(flow, "entity_insert",
+                    () -> createDatabaseEntities(reservation, userId, request.getAmount()));
+            event.bookingId = entities.booking.getId();
+            bookingMetrics.stage(flow, "sales_counters", () -> {
+                showSalesCounterService.recordSale(reservation.getShowId(), entities.tickets.size(),
+                        entities.booking.getTotalAmount());
+                Venue venue = entities.booking.getShow().getVenue();
+                soldOutService.checkSoldOutAfterCommit(reservation.getShowId(), venue.getId(), venue.getCapacity());
+            });
 
             // Prepare Redis transaction data
             SimpleRedisService.BookingTransactionData bookingData = createBookingTransactionData(entities, reservation);
 
             // Process Redis transaction (cleanup reservation and release locks)
-            boolean transactionSuccess = redisService.processBookingTransaction(request.getReservationId(),
-                    bookingData);
+            boolean transactionSuccess = bookingMetrics.stage(flow, "redis_commit", () -> {
+                boolean committed = redisService.processBookingTransaction(request.getReservationId(),
+                        bookingData);
+                showSalesCounterService.releaseHold(reservation.getShowId(), request.getReservationId(),
+                        reservation.getSeatIds().size());
+                return committed;
+            });
 
             if (!transactionSuccess) {
                 log.error("Redis transaction failed for booking {}, but database changes are committed",
@@ -162,7 +306,8 @@ public class BookingWorkflowService {
                     entities.booking.getId(), entities.tickets.size(), entities.booking.getTotalAmount());
 
             // Create booking confirmation email
-            createBookingConfirmationEmail(entities.booking, entities.tickets);
+            bookingMetrics.stage(flow, "email_render",
+                    () -> createBookingConfirmationEmail(entities.booking, entities.tickets));
 
             return BookingPaymentResponse.builder()
                     .bookingId(entities.booking.getId())
@@ -175,63 +320,79 @@ public class BookingWorkflowService {
 
             // Release reservation on failure
             redisService.releaseReservation(request.getReservationId());
+            showSalesCounterService.releaseHold(reservation.getShowId(), request.getReservationId(),
+                    reservation.getSeatIds().size());
 
-            if (e instanceof BadRequestException || e instanceof NotFoundException) {
+            if (e instanceof BadRequestException || e instanceof NotFoundException
+                    || e instanceof ConflictException) {
                 throw e;
             }
-            throw new BadRequestException("Payment processing failed: " + e.getMessage());
+            throw wrapFailure("Payment processing failed: ", e);
         }
     }
 
-    /**
-     * Cancels a booking and processes refund
-     */
-    @Transactional
-    public BookingCancelResponse cancelBooking(Long bookingId, Long userId) {
-        log.info("Cancelling booking {} for user {}", bookingId, userId);
+    private BookingCancelResponse cancel(Long bookingId, Long userId, CancellationEvent event) {
+        String flow = BookingMetrics.FLOW_CANCEL;
 
         // Find and validate booking
-        Booking booking = bookingRepository.findById(bookingId)
-                .orElseThrow(() -> new NotFoundException("Booking not found with id: " + bookingId));
-
-        // Verify ownership
-        if (!booking.getUser().getId().equals(userId)) {
-            throw new BadRequestException("You are not authorized to cancel this booking");
-        }
+        Booking booking = bookingMetrics.stage(flow, "booking_lookup", () -> bookingRepository.findById(bookingId)
+                .orElseThrow(() -> new NotFoundException("Booking not found with id: " + bookingId)));
+        event.showId = booking.getShow().getId();
+
+        bookingMetrics.stage(flow, "validation", () -> {
+            // Verify ownership
+            if (!booking.getUser().getId().equals(userId)) {
+                throw new BadRequestException("You are not authorized to cancel this booking");
+            }
 
-        // Check if already cancelled
-        if (booking.getStatus() == BookingStatus.CANCELLED) {
-            throw new BadRequestException("Booking is already cancelled");
-        }
+            // Check if already cancelled
+            if (booking.getStatus() == BookingStatus.CANCELLED) {
+                throw new BadRequestException("Booking is already cancelled");
+            }
 
-        // Check if booking can be cancelled (e.g., not too close to show time)
-        validateBookingCancellation(booking);
+            // Check if booking can be cancelled (e.g., not too close to show time)
+            validateBookingCancellation(booking);
+        });
 
         try {
             // Get tickets and payment information
-            List<Ticket> tickets = ticketRepository.findByBookingId(bookingId);
-            Payment payment = paymentRepository.findByBookingId(bookingId);
+            Instant since = PartitionUtil.createdSince(booking.getCreatedAt());
+            List<Ticket> tickets = bookingMetrics.stage(flow, "ticket_lookup",
+                    () -> ticketRepository.findByBookingId(bookingId, since));
+            event.seatCount = tickets.size();
+            Payment payment = bookingMetrics.stage(flow, "payment_lookup",
+                    () -> paymentRepository.findByBookingId(bookingId, since));
 
             if (payment == null) {
                 throw new BadRequestException("No payment record found for this booking");
             }
 
-            // Delete tickets (this frees up seats)
-            ticketRepository.deleteAll(tickets);
-            log.info("Deleted {} tickets for booking {}", tickets.size(), bookingId);
+            Refund refund = bookingMetrics.stage(flow, "entity_update", () -> {
+                // Delete tickets (this frees up seats)
+                ticketRepository.deleteAll(tickets);
+                log.info("Deleted {} tickets for booking {}", tickets.size(), bookingId);
 
-            // Create refund record
-            Refund refund = createRefund(booking, payment);
+                // Create refund record
+                Refund created = createRefund(booking, payment);
 
-            // Update booking status
-            booking.setStatus(BookingStatus.CANCELLED);
-            bookingRepository.save(booking);
-            log.info("Updated booking {} status to CANCELLED", bookingId);
+                // Update booking status
+                booking.setStatus(BookingStatus.CANCELLED);
+                bookingRepository.save(booking);
+                log.info(LogMarkers.STATE_TRANSITION, "Updated booking {} status to CANCELLED", bookingId);
+                return created;
+            });
+
+            bookingMetrics.stage(flow, "sales_counters", () -> {
+                showSalesCounterService.recordCancellation(booking.getShow().getId(), tickets.size(),
+                        booking.getTotalAmount());
+                soldOutService.markAvailableAfterCommit(booking.getShow().getId());
+            });
 
             // Create cancellation email
-            createCancellationEmail(booking, tickets, refund);
+            bookingMetrics.stage(flow, "email_render", () -> createCancellationEmail(booking, tickets, refund));
 
-            log.info("Successfully cancelled booking {} with refund amount: {}", bookingId, refund.getAmount());
+            log.info(LogMarkers.STATE_TRANSITION, "Successfully cancelled booking {} with refund amount: {}",
+                    bookingId, refund.getAmount());
 
             return BookingCancelResponse.builder()
                     .bookingId(bookingId)
@@ -245,18 +406,32 @@ public class BookingWorkflowService {
             if (e instanceof BadRequestException || e instanceof NotFoundException) {
                 throw e;
             }
-            throw new BadRequestException("Failed to cancel booking: " + e.getMessage());
+            throw wrapFailure("Failed to cancel booking: ", e);
         }
     }
 
+    /**
+     * Reports an unexpected failure to the client as a bad request, keeping the
+     * original as the cause so BookingMetrics still counts it as an error
+     */
+    private static BadRequestException wrapFailure(String message, Exception cause) {
+        BadRequestException wrapped = new BadRequestException(message + cause.getMessage());
+        wrapped.initCause(cause);
+        return wrapped;
+    }
+
     // =============== PRIVATE HELPER METHODS ===============
 
     /**
-     * Finds show by ID with validation
+     * Finds show by ID with validation, rejecting shows whose venue or event is being deleted
      */
     private Show findShowById(Long showId) {
-        return showRepository.findById(showId)
+        Show show = showRepository.findWithVenueAndEventById(showId)
                 .orElseThrow(() -> new NotFoundException("Show not found with id: " + showId));
+        if (show.getVenue().isDeletionPending() || show.getEvent().isDeletionPending()) {
+            throw new ConflictException("Show " + showId + " is being deleted and no longer takes bookings");
+        }
+        return show;
     }
 
     /**
@@ -301,13 +476,15 @@ public class BookingWorkflowService {
     /**
      * Validates that seats are not already booked in database
      */
-    private void validateSeatsNotBooked(List<Long> seatIds, Long showId) {
-        List<Long> bookedSeatIds = ticketRepository.findBookedSeatIdsByShowId(showId);
+    private void validateSeatsNotBooked(List<Long> seatIds, Show show) {
+        List<Long> bookedSeatIds = ticketRepository.findBookedSeatIdsByShowId(show.getId(),
+                PartitionUtil.createdSince(show.getCreatedAt()));
         List<Long> conflictingSeats = seatIds.stream()
                 .filter(bookedSeatIds::contains)
                 .toList();
 
         if (!conflictingSeats.isEmpty()) {
+            bookingMetrics.lockConflict(BookingMetrics.CONFLICT_DATABASE);
             throw new BadRequestException("Some seats are already booked: " + conflictingSeats);
         }
     }
@@ -328,6 +505,7 @@ public class BookingWorkflowService {
         SimpleRedisService.ReservationData reservation = redisService.getReservation(reservationId);
 
         if (reservation == null) {
+            bookingMetrics.reservationExpired();
             throw new BadRequestException("Reservation expired or not found. Please try booking again.");
         }
 
@@ -346,6 +524,7 @@ public class BookingWorkflowService {
     private void validatePaymentAmount(BigDecimal paymentAmount, String expectedAmountStr) {
         BigDecimal expectedAmount = new BigDecimal(expectedAmountStr);
         if (paymentAmount.compareTo(expectedAmount) != 0) {
+            bookingMetrics.paymentMismatch();
             throw new BadRequestException(
                     String.format("Payment amount mismatch. Expected: %s, Received: %s",
                             expectedAmount, paymentAmount));
@@ -416,7 +595,7 @@ public class BookingWorkflowService {
                 .toList();
         List<Ticket> savedTickets = ticketRepository.saveAll(tickets);
 
-        log.info("Created booking {} with payment {} and {} tickets",
+        log.info(LogMarkers.STATE_TRANSITION, "Created booking {} with payment {} and {} tickets",
                 savedBooking.getId(), savedPayment.getId(), savedTickets.size());
 
         return new DatabaseEntities(savedBooking, savedPayment, savedTickets, seats);
@@ -464,7 +643,7 @@ public class BookingWorkflowService {
                 .build();
 
         Refund savedRefund = refundRepository.save(refund);
-        log.info("Created refund {} for booking {} with amount {}",
+        log.info(LogMarkers.STATE_TRANSITION, "Created refund {} for booking {} with amount {}",
                 savedRefund.getId(), booking.getId(), savedRefund.getAmount());
 
         return savedRefund;
@@ -473,7 +652,7 @@ public class BookingWorkflowService {
     /**
      * Creates seat map response from seats and booked seat IDs
      */
-    private SeatMapResponse createSeatMapResponse(List<Seat> seats, List<Long> bookedSeatIds) {
+    private SeatMapResponse createSeatMapResponse(List<Seat> seats, List<Long> bookedSeatIds, String venueName) {
         if (seats.isEmpty()) {
             return SeatMapResponse.builder()
                     .venueName("")
@@ -518,7 +697,7 @@ public class BookingWorkflowService {
                 .toList();
 
         return SeatMapResponse.builder()
-                .venueName(seats.get(0).getVenue().getName())
+                .venueName(venueName)
                 .totalCapacity(seats.size())
                 .sections(sections)
                 .build();
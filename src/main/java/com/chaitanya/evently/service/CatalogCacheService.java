@@ -0,0 +1,209 @@
+package com.chaitanya.evently.service;
+
+import com.chaitanya.evently.config.PrimaryRouting;
+import com.chaitanya.evently.dto.event.PaginationRequest;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Two-tier near-cache for public catalog responses. L1 is an in-process
+ * Caffeine cache with a short TTL; L2 is Redis, holding serialized responses
+ * under a per-namespace version. Bumping a namespace's version orphans every
+ * L2 entry written under the old one and clears L1 on all nodes.
+ *
+ * Misses load through the normal read routing, so they usually hit a replica.
+ * For one replica lag budget after an invalidation they read the primary
+ * instead, since a replica could still return the data from before the
+ * invalidating commit. A fill is stored only if the namespace version is
+ * unchanged since the load started.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogCacheService {
+
+    public static final String EVENTS = "events";
+    public static final String VENUES = "venues";
+    public static final String SHOWS = "shows";
+
+    private static final String CHANNEL = "evently:cache:catalog-invalidation";
+    private static final String KEY_PREFIX = "catalog:";
+    private static final String VERSION_PREFIX = "catalog:version:";
+    private static final String INVALIDATED_AT_PREFIX = "catalog:invalidated_at:";
+
+    /**
+     * Stores ARGV[3] under KEYS[2] for ARGV[2] seconds only if the namespace
+     * version in KEYS[1] still equals ARGV[1]; returns 1 if stored.
+     */
+    private static final String STORE_IF_CURRENT_SCRIPT = """
+            if (redis.call('GET', KEYS[1]) or '0') ~= ARGV[1] then
+              return 0
+            end
+            redis.call('SET', KEYS[2], ARGV[3], 'EX', tonumber(ARGV[2]))
+            return 1
+            """;
+
+    private final JedisPool jedisPool;
+    private final ObjectMapper objectMapper;
+    private final RedisPubSubService redisPubSubService;
+
+    @Value("${app.catalog-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.catalog-cache.local-ttl-seconds:5}")
+    private long localTtlSeconds;
+
+    @Value("${app.catalog-cache.local-max-size:10000}")
+    private long localMaxSize;
+
+    @Value("${app.catalog-cache.redis-ttl-seconds:600}")
+    private long redisTtlSeconds;
+
+    @Value("${app.datasource.replica-max-lag-seconds:5}")
+    private long replicaMaxLagSeconds;
+
+    private Cache<String, Object> localCache;
+
+    @PostConstruct
+    public void init() {
+        localCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .maximumSize(localMaxSize)
+                .build();
+        redisPubSubService.subscribe(CHANNEL, this::evictLocal);
+    }
+
+    /**
+     * Returns the cached response for the key, loading and populating both tiers on a miss.
+     * Redis failures fall through to the loader.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String namespace, String key, TypeReference<T> type, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        String localKey = namespace + ":" + key;
+        Object local = localCache.getIfPresent(localKey);
+        if (local != null) {
+            return (T) local;
+        }
+
+        String version = null;
+        boolean recentlyInvalidated = false;
+        try (Jedis jedis = jedisPool.getResource()) {
+            List<String> state = jedis.mget(VERSION_PREFIX + namespace, INVALIDATED_AT_PREFIX + namespace);
+            version = state.get(0) == null ? "0" : state.get(0);
+            recentlyInvalidated = state.get(1) != null && System.currentTimeMillis()
+                    - Long.parseLong(state.get(1)) < TimeUnit.SECONDS.toMillis(replicaMaxLagSeconds);
+            String json = jedis.get(dataKey(namespace, version, key));
+            if (json != null) {
+                T value = objectMapper.readValue(json, type);
+                localCache.put(localKey, value);
+                return value;
+            }
+        } catch (Exception e) {
+            log.warn("Catalog cache read failed for {}: {}", localKey, e.getMessage());
+        }
+
+        // Load outside the Redis connection so a slow query does not pin a pooled connection
+        T value = recentlyInvalidated ? PrimaryRouting.call(loader) : loader.get();
+        if (value == null) {
+            return null;
+        }
+
+        if (version == null) {
+            localCache.put(localKey, value);
+            return value;
+        }
+        try (Jedis jedis = jedisPool.getResource()) {
+            Object stored = jedis.eval(STORE_IF_CURRENT_SCRIPT,
+                    List.of(VERSION_PREFIX + namespace, dataKey(namespace, version, key)),
+                    List.of(version, String.valueOf(redisTtlSeconds), objectMapper.writeValueAsString(value)));
+            // An invalidation landed mid-load; the value may predate it, so serve it but keep it out of both tiers
+            if (Long.valueOf(1).equals(stored)) {
+                localCache.put(localKey, value);
+            }
+        } catch (Exception e) {
+            log.warn("Catalog cache write failed for {}: {}", localKey, e.getMessage());
+        }
+        return value;
+    }
+
+    /**
+     * Bumps the version of each namespace once the surrounding transaction commits,
+     * invalidating both tiers on every node.
+     */
+    public void invalidateAfterCommit(String... namespaces) {
+        List<String> targets = List.of(namespaces);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(targets);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(targets);
+            }
+        });
+    }
+
+    private void invalidate(List<String> namespaces) {
+        for (String namespace : namespaces) {
+            evictLocal(namespace);
+            try (Jedis jedis = jedisPool.getResource()) {
+                // Recorded first, so a fill that sees the new version also sees it was just invalidated
+                jedis.set(INVALIDATED_AT_PREFIX + namespace, String.valueOf(System.currentTimeMillis()));
+                long version = jedis.incr(VERSION_PREFIX + namespace);
+                log.debug("Bumped catalog cache namespace {} to version {}", namespace, version);
+            } catch (Exception e) {
+                log.warn("Failed to bump catalog cache version for {}: {}", namespace, e.getMessage());
+            }
+            redisPubSubService.publish(CHANNEL, namespace);
+        }
+    }
+
+    private void evictLocal(String namespace) {
+        String prefix = namespace + ":";
+        localCache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    /**
+     * Builds a cache key for a paged list from its filters and pagination parameters
+     */
+    public static String listKey(String prefix, PaginationRequest paginationRequest, String baseUrl,
+            Object... filters) {
+        StringBuilder key = new StringBuilder(prefix);
+        for (Object filter : filters) {
+            key.append(':').append(filter);
+        }
+        key.append(':').append(paginationRequest.getPage())
+                .append(':').append(paginationRequest.getSize())
+                .append(':').append(paginationRequest.getSort())
+                .append(':').append(paginationRequest.getDirection())
+                .append(':').append(baseUrl);
+        return key.toString();
+    }
+
+    private String dataKey(String namespace, String version, String key) {
+        return KEY_PREFIX + namespace + ":v" + version + ":" + key;
+    }
+}
@@ -0,0 +1,286 @@
+package com.chaitanya.evently.service;
+
+import com.chaitanya.evently.dto.job.DeletionJobResponse;
+import com.chaitanya.evently.exception.types.NotFoundException;
+import com.chaitanya.evently.logging.LogMarkers;
+import com.chaitanya.evently.model.DeletionJob;
+import com.chaitanya.evently.model.Event;
+import com.chaitanya.evently.model.Seat;
+import com.chaitanya.evently.model.Show;
+import com.chaitanya.evently.model.Venue;
+import com.chaitanya.evently.model.status.DeletionJobStatus;
+import com.chaitanya.evently.repository.DeletionJobRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Deletes venues and events in the background. Dependent rows are removed
+ * bottom-up (refunds, payments, tickets, bookings, shows, seats) with bounded
+ * bulk DELETEs, each chunk in its own short transaction, so no single
+ * transaction locks a whole venue's history. Progress is recorded per chunk;
+ * the job row's updated_at doubles as a heartbeat so a job abandoned by a
+ * crashed node is picked up again. Every step is idempotent.
+ *
+ * Queuing a job flags the target deletion_pending, so new shows, reservations
+ * and bookings against it are rejected while it runs. A failed job leaves the
+ * flag set, since the target is already partly gone.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DeletionJobService {
+
+    private static final List<DeletionJobStatus> ACTIVE_STATUSES = List.of(DeletionJobStatus.PENDING,
+            DeletionJobStatus.RUNNING);
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    // %s is the shows column scoping the job (venue_id or event_id)
+    private static final List<Step> SHOW_STEPS = List.of(
+            new Step("refunds", "DELETE FROM refunds WHERE id IN (SELECT r.id FROM refunds r "
+                    + "JOIN bookings b ON b.id = r.booking_id JOIN shows s ON s.id = b.show_id "
+                    + "WHERE s.%s = ? LIMIT ?)"),
+            new Step("payments", "DELETE FROM payments WHERE id IN (SELECT p.id FROM payments p "
+                    + "JOIN bookings b ON b.id = p.booking_id JOIN shows s ON s.id = b.show_id "
+                    + "WHERE s.%s = ? LIMIT ?)"),
+            new Step("tickets", "DELETE FROM tickets WHERE id IN (SELECT t.id FROM tickets t "
+                    + "JOIN bookings b ON b.id = t.booking_id JOIN shows s ON s.id = b.show_id "
+                    + "WHERE s.%s = ? LIMIT ?)"),
+            new Step("bookings", "DELETE FROM bookings WHERE id IN (SELECT b.id FROM bookings b "
+                    + "JOIN shows s ON s.id = b.show_id WHERE s.%s = ? LIMIT ?)"),
+            new Step("shows", "DELETE FROM shows WHERE id IN (SELECT s.id FROM shows s WHERE s.%s = ? LIMIT ?)"));
+
+    private static final Step SEATS_STEP = new Step("seats",
+            "DELETE FROM seats WHERE id IN (SELECT id FROM seats WHERE venue_id = ? LIMIT ?)");
+
+    private final DeletionJobRepository deletionJobRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityCacheInvalidationService entityCacheInvalidationService;
+    private final CatalogCacheService catalogCacheService;
+    private final SoldOutService soldOutService;
+    private final ShowSalesCounterService showSalesCounterService;
+
+    @Value("${app.deletion-jobs.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${app.deletion-jobs.chunk-pause-ms:50}")
+    private long chunkPauseMs;
+
+    @Value("${app.deletion-jobs.concurrency:1}")
+    private int concurrency;
+
+    @Value("${app.deletion-jobs.stale-after-seconds:300}")
+    private long staleAfterSeconds;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private ExecutorService executor;
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = virtualThreads
+                ? Thread.ofVirtual().name("deletion-job-", 1).factory()
+                : runnable -> {
+                    Thread thread = new Thread(runnable, "deletion-job-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                };
+        // Fixed size either way: concurrency bounds the load on the database, not the thread count
+        executor = Executors.newFixedThreadPool(concurrency, threadFactory);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Interrupted jobs keep their RUNNING status and are resumed once their heartbeat goes stale
+        executor.shutdownNow();
+    }
+
+    /**
+     * Queues deletion of the target, or returns the job already deleting it
+     */
+    @Transactional
+    public DeletionJobResponse submit(DeletionJob.TargetType targetType, Long targetId) {
+        DeletionJob active = deletionJobRepository
+                .findFirstByTargetTypeAndTargetIdAndStatusIn(targetType, targetId, ACTIVE_STATUSES)
+                .orElse(null);
+        if (active != null) {
+            return DeletionJobResponse.from(active);
+        }
+
+        DeletionJob job = deletionJobRepository.save(DeletionJob.builder()
+                .targetType(targetType)
+                .targetId(targetId)
+                .build());
+        log.info(LogMarkers.STATE_TRANSITION, "Queued deletion job {} for {} {}", job.getId(), targetType, targetId);
+
+        // Writes against the target are rejected from here on; the flag bypasses Hibernate, so evict it everywhere
+        boolean venue = targetType == DeletionJob.TargetType.VENUE;
+        jdbcTemplate.update(venue ? "UPDATE venues SET deletion_pending = TRUE WHERE id = ?"
+                : "UPDATE events SET deletion_pending = TRUE WHERE id = ?", targetId);
+        entityCacheInvalidationService.evictAndPublishAfterCommit(venue ? Venue.class : Event.class, targetId);
+
+        Long jobId = job.getId();
+        Runnable start = () -> executor.execute(() -> {
+            if (deletionJobRepository.claimPendingJob(jobId) > 0) {
+                run(jobId);
+            }
+        });
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    start.run();
+                }
+            });
+        } else {
+            start.run();
+        }
+
+        return DeletionJobResponse.from(job);
+    }
+
+    @Transactional(readOnly = true)
+    public DeletionJobResponse getJob(Long id) {
+        return deletionJobRepository.findById(id)
+                .map(DeletionJobResponse::from)
+                .orElseThrow(() -> new NotFoundException("Deletion job not found with id: " + id));
+    }
+
+    /**
+     * Resumes jobs left pending or running by a node that stopped heartbeating
+     */
+    @Scheduled(fixedDelayString = "${app.deletion-jobs.resume-interval-ms:60000}")
+    public void resumeStaleJobs() {
+        Instant staleBefore = Instant.now().minusSeconds(staleAfterSeconds);
+        for (Long jobId : deletionJobRepository.findStaleJobIds(staleBefore)) {
+            if (deletionJobRepository.claimStaleJob(jobId, staleBefore) == 0) {
+                continue;
+            }
+            log.info(LogMarkers.STATE_TRANSITION, "Resuming stale deletion job {}", jobId);
+            executor.execute(() -> run(jobId));
+        }
+    }
+
+    private void run(Long jobId) {
+        DeletionJob job = deletionJobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+
+        Long targetId = job.getTargetId();
+        boolean venue = job.getTargetType() == DeletionJob.TargetType.VENUE;
+        log.info("Running deletion job {} for {} {}", jobId, job.getTargetType(), targetId);
+
+        try {
+            // Read before the shows go, so their sold-out flags, counters and holds can be cleared afterwards
+            List<Long> showIds = jdbcTemplate.queryForList(venue ? "SELECT id FROM shows WHERE venue_id = ?"
+                    : "SELECT id FROM shows WHERE event_id = ?", Long.class, targetId);
+
+            for (Step step : steps(venue)) {
+                deleteInChunks(jobId, step, targetId);
+            }
+
+            transactionTemplate.executeWithoutResult(status -> {
+                int deleted = jdbcTemplate.update(venue ? "DELETE FROM venues WHERE id = ?"
+                        : "DELETE FROM events WHERE id = ?", targetId);
+                deletionJobRepository.recordProgress(jobId, venue ? "venues" : "events", deleted);
+            });
+
+            finish(jobId, DeletionJobStatus.COMPLETED, null);
+            invalidateCaches(venue, targetId);
+            soldOutService.showsRemovedAfterCommit(showIds);
+            showSalesCounterService.showsRemovedAfterCommit(showIds);
+            log.info(LogMarkers.STATE_TRANSITION, "Completed deletion job {} for {} {}",
+                    jobId, job.getTargetType(), targetId);
+        } catch (InterruptedException e) {
+            // Shutting down: leave the job RUNNING so another node resumes it once the heartbeat goes stale
+            Thread.currentThread().interrupt();
+            log.info("Deletion job {} interrupted, leaving it for resumption", jobId);
+        } catch (Exception e) {
+            if (executor.isShutdown()) {
+                // An interrupt inside a JDBC call surfaces as a driver error; the chunks are safe to repeat
+                log.info("Deletion job {} stopped by shutdown, leaving it for resumption: {}", jobId, e.getMessage());
+                return;
+            }
+            log.error("Deletion job {} failed: {}", jobId, e.getMessage());
+            finish(jobId, DeletionJobStatus.FAILED, e.getMessage());
+        }
+    }
+
+    private void deleteInChunks(Long jobId, Step step, Long targetId) throws InterruptedException {
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> {
+                int rows = jdbcTemplate.update(step.sql(), targetId, chunkSize);
+                deletionJobRepository.recordProgress(jobId, step.table(), rows);
+                return rows;
+            });
+            if (deleted > 0 && chunkPauseMs > 0) {
+                // Give OLTP traffic a chance at the locks between chunks
+                Thread.sleep(chunkPauseMs);
+            }
+        } while (deleted > 0);
+    }
+
+    private List<Step> steps(boolean venue) {
+        String column = venue ? "venue_id" : "event_id";
+        List<Step> steps = new ArrayList<>();
+        for (Step step : SHOW_STEPS) {
+            steps.add(new Step(step.table(), step.sql().formatted(column)));
+        }
+        if (venue) {
+            steps.add(SEATS_STEP);
+        }
+        return steps;
+    }
+
+    private void finish(Long jobId, DeletionJobStatus status, String error) {
+        transactionTemplate.executeWithoutResult(tx -> deletionJobRepository.findById(jobId).ifPresent(job -> {
+            job.setStatus(status);
+            job.setError(error == null ? null : error.substring(0, Math.min(error.length(), MAX_ERROR_LENGTH)));
+            job.setFinishedAt(Instant.now());
+            deletionJobRepository.save(job);
+        }));
+    }
+
+    /**
+     * The bulk deletes bypass Hibernate, so evict on this node as well as the others
+     */
+    private void invalidateCaches(boolean venue, Long targetId) {
+        entityCacheInvalidationService.evictAndPublishAfterCommit(venue ? Venue.class : Event.class, targetId);
+        entityCacheInvalidationService.evictAndPublishAfterCommit(Show.class, null);
+        if (venue) {
+            entityCacheInvalidationService.evictAndPublishAfterCommit(Seat.class, null);
+            catalogCacheService.invalidateAfterCommit(CatalogCacheService.VENUES, CatalogCacheService.SHOWS);
+        } else {
+            catalogCacheService.invalidateAfterCommit(CatalogCacheService.EVENTS, CatalogCacheService.SHOWS);
+        }
+    }
+
+    private record Step(String table, String sql) {
+    }
+}
@@ -0,0 +1,147 @@
+package com.chaitanya.evently.service;
+
+import com.chaitanya.evently.model.Event;
+import com.chaitanya.evently.model.Seat;
+import com.chaitanya.evently.model.Show;
+import com.chaitanya.evently.model.Venue;
+import com.chaitanya.evently.repository.SeatRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+
+/**
+ * Keeps the Hibernate second-level cache coherent across nodes. Hibernate
+ * already evicts locally on write; after commit we broadcast the change so
+ * every other node drops its copy as well.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EntityCacheInvalidationService {
+
+    public static final String CHANNEL = "evently:cache:entity-invalidation";
+
+    private static final Map<String, Class<?>> CACHED_ENTITIES = Map.of(
+            Venue.class.getSimpleName(), Venue.class,
+            Event.class.getSimpleName(), Event.class,
+            Show.class.getSimpleName(), Show.class,
+            Seat.class.getSimpleName(), Seat.class);
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final RedisPubSubService redisPubSubService;
+    private final ObjectMapper objectMapper;
+
+    @PostConstruct
+    public void registerSubscriber() {
+        redisPubSubService.subscribe(CHANNEL, this::onMessage);
+    }
+
+    /**
+     * Broadcasts an invalidation once the surrounding transaction commits.
+     * A null id invalidates every cached instance of the entity type.
+     */
+    public void publishAfterCommit(Class<?> entityClass, Long id) {
+        InvalidationMessage message = new InvalidationMessage(redisPubSubService.getNodeId(),
+                entityClass.getSimpleName(), id);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(message);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(message);
+            }
+        });
+    }
+
+    /**
+     * Like publishAfterCommit, but also evicts on this node. For writes that
+     * bypass Hibernate, such as native bulk inserts, which it cannot track.
+     */
+    public void evictAndPublishAfterCommit(Class<?> entityClass, Long id) {
+        InvalidationMessage message = new InvalidationMessage(redisPubSubService.getNodeId(),
+                entityClass.getSimpleName(), id);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictLocally(entityClass, id);
+            publish(message);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictLocally(entityClass, id);
+                publish(message);
+            }
+        });
+    }
+
+    private void publish(InvalidationMessage message) {
+        try {
+            redisPubSubService.publish(CHANNEL, objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            log.warn("Failed to publish cache invalidation for {} {}: {}", message.getEntity(), message.getId(),
+                    e.getMessage());
+        }
+    }
+
+    private void onMessage(String payload) {
+        try {
+            InvalidationMessage message = objectMapper.readValue(payload, InvalidationMessage.class);
+            if (redisPubSubService.getNodeId().equals(message.getNodeId())) {
+                return;
+            }
+
+            Class<?> entityClass = CACHED_ENTITIES.get(message.getEntity());
+            if (entityClass == null) {
+                log.warn("Ignoring cache invalidation for unknown entity {}", message.getEntity());
+                return;
+            }
+
+            evictLocally(entityClass, message.getId());
+        } catch (Exception e) {
+            log.error("Failed to process cache invalidation message: {}", e.getMessage());
+        }
+    }
+
+    private void evictLocally(Class<?> entityClass, Long id) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+
+        if (id == null) {
+            cache.evictEntityData(entityClass);
+        } else {
+            cache.evictEntityData(entityClass, id);
+        }
+
+        if (entityClass == Seat.class || entityClass == Venue.class) {
+            cache.evictQueryRegion(SeatRepository.SEAT_QUERY_REGION);
+        }
+
+        log.debug("Evicted {} {} from second-level cache", entityClass.getSimpleName(), id == null ? "*" : id);
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class InvalidationMessage {
+        private String nodeId;
+        private String entity;
+        private Long id;
+    }
+}
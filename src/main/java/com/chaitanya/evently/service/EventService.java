@@ -2,16 +2,21 @@ package com.chaitanya.evently.service;
 
 import com.chaitanya.evently.dto.PaginationResponse;
 import com.chaitanya.evently.dto.event.EventRequest;
+import com.chaitanya.evently.dto.event.EventResponse;
 import com.chaitanya.evently.dto.event.EventStatusUpdateRequest;
 import com.chaitanya.evently.dto.event.PaginationRequest;
+import com.chaitanya.evently.dto.job.DeletionJobResponse;
 import com.chaitanya.evently.exception.types.BadRequestException;
 import com.chaitanya.evently.exception.types.ConflictException;
 import com.chaitanya.evently.exception.types.NotFoundException;
+import com.chaitanya.evently.logging.LogMarkers;
+import com.chaitanya.evently.model.DeletionJob;
 import com.chaitanya.evently.model.Event;
 import com.chaitanya.evently.model.status.EventStatus;
 import com.chaitanya.evently.model.status.ShowStatus;
 import com.chaitanya.evently.repository.EventRepository;
 import com.chaitanya.evently.repository.ShowRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -28,8 +33,13 @@ import java.util.List;
 @Slf4j
 public class EventService {
 
+    private static final int MAX_SEARCH_QUERY_LENGTH = 200;
+
     private final EventRepository eventRepository;
     private final ShowRepository showRepository;
+    private final EntityCacheInvalidationService entityCacheInvalidationService;
+    private final CatalogCacheService catalogCacheService;
+    private final DeletionJobService deletionJobService;
 
     @Transactional(readOnly = true)
     public List<Event> getAllEvents() {
@@ -56,6 +66,64 @@ public class EventService {
         return event;
     }
 
+    /**
+     * User-facing event lookup served from the catalog near-cache
+     */
+    public EventResponse getCatalogEventById(Long id) {
+        return catalogCacheService.get(CatalogCacheService.EVENTS, "id:" + id,
+                new TypeReference<EventResponse>() {
+                },
+                () -> EventResponse.from(getEventByIdForUser(id)));
+    }
+
+    /**
+     * User-facing event list served from the catalog near-cache
+     */
+    public PaginationResponse<EventResponse> getCatalogEvents(String category, PaginationRequest paginationRequest,
+            String baseUrl) {
+        String key = CatalogCacheService.listKey("list", paginationRequest, baseUrl, category);
+        return catalogCacheService.get(CatalogCacheService.EVENTS, key,
+                new TypeReference<PaginationResponse<EventResponse>>() {
+                },
+                () -> {
+                    Pageable pageable = createPageable(paginationRequest);
+                    Page<Event> eventPage = (category != null && !category.trim().isEmpty())
+                            ? eventRepository.findLiveAndClosedEventsByCategory(category, pageable)
+                            : eventRepository.findLiveAndClosedEvents(pageable);
+                    return PaginationResponse.fromPage(eventPage.map(EventResponse::from), baseUrl, category);
+                });
+    }
+
+    /**
+     * Ranked, typo-tolerant search over LIVE and CLOSED events
+     */
+    public PaginationResponse<EventResponse> searchEventsForUser(String query, String category,
+            PaginationRequest paginationRequest, String baseUrl) {
+        if (query == null || query.trim().isEmpty()) {
+            throw new BadRequestException("Search query must not be empty");
+        }
+        if (query.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new BadRequestException("Search query must not exceed " + MAX_SEARCH_QUERY_LENGTH + " characters");
+        }
+
+        String trimmedQuery = query.trim();
+        String normalizedCategory = (category == null || category.trim().isEmpty()) ? null : category.trim();
+        String key = CatalogCacheService.listKey("search", paginationRequest, baseUrl,
+                trimmedQuery.toLowerCase(), normalizedCategory);
+
+        return catalogCacheService.get(CatalogCacheService.EVENTS, key,
+                new TypeReference<PaginationResponse<EventResponse>>() {
+                },
+                () -> {
+                    // Results are ordered by relevance, so the requested sort field does not apply
+                    Pageable pageable = PageRequest.of(paginationRequest.getPage(), paginationRequest.getSize());
+                    Page<Event> eventPage = eventRepository.searchLiveAndClosedEvents(trimmedQuery,
+                            normalizedCategory, pageable);
+                    return PaginationResponse.fromPage(eventPage.map(EventResponse::from), baseUrl,
+                            normalizedCategory);
+                });
+    }
+
     @Transactional(readOnly = true)
     public Event getEventByTitleForUser(String title) {
         Event event = eventRepository.findLiveAndClosedEventByTitle(title)
@@ -116,6 +184,7 @@ public class EventService {
 
         Event savedEvent = eventRepository.save(event);
         log.info("Created event with id: {} and title: {}", savedEvent.getId(), savedEvent.getTitle());
+        catalogCacheService.invalidateAfterCommit(CatalogCacheService.EVENTS);
 
         return savedEvent;
     }
@@ -136,6 +205,8 @@ public class EventService {
 
         Event updatedEvent = eventRepository.save(event);
         log.info("Updated event with id: {} and title: {}", updatedEvent.getId(), updatedEvent.getTitle());
+        entityCacheInvalidationService.publishAfterCommit(Event.class, id);
+        catalogCacheService.invalidateAfterCommit(CatalogCacheService.EVENTS, CatalogCacheService.SHOWS);
 
         return updatedEvent;
     }
@@ -164,8 +235,10 @@ public class EventService {
         event.setStatus(newStatus);
         Event updatedEvent = eventRepository.save(event);
 
-        log.info("Updated event status from {} to {} for event with id: {}",
+        log.info(LogMarkers.STATE_TRANSITION, "Updated event status from {} to {} for event with id: {}",
                 currentStatus, newStatus, updatedEvent.getId());
+        entityCacheInvalidationService.publishAfterCommit(Event.class, id);
+        catalogCacheService.invalidateAfterCommit(CatalogCacheService.EVENTS, CatalogCacheService.SHOWS);
 
         return updatedEvent;
     }
@@ -177,17 +250,14 @@ public class EventService {
         return getEvents(category, paginationRequest, baseUrl);
     }
 
-    @Transactional
-    public void deleteEvent(Long id) {
-        Event event = eventRepository.findById(id)
-                .orElseThrow(() -> new NotFoundException("Event not found with id: " + id));
-
-        // Delete all shows first
-        showRepository.deleteByEventId(id);
-
-        eventRepository.delete(event);
-        log.info("Deleted event with id: {} and title: {} along with all associated shows", event.getId(),
-                event.getTitle());
+    /**
+     * Queues the event and all its shows for chunked background deletion
+     */
+    public DeletionJobResponse deleteEvent(Long id) {
+        if (!eventRepository.existsById(id)) {
+            throw new NotFoundException("Event not found with id: " + id);
+        }
+        return deletionJobService.submit(DeletionJob.TargetType.EVENT, id);
     }
 
     private void validateStateTransition(EventStatus currentStatus, EventStatus newStatus) {
@@ -0,0 +1,317 @@
+package com.chaitanya.evently.service;
+
+import com.chaitanya.evently.exception.types.BadRequestException;
+import com.chaitanya.evently.exception.types.NotFoundException;
+import com.chaitanya.evently.repository.ShowRepository;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Locale;
+
+/**
+ * Streams per-show exports straight from a forward-only JDBC cursor to the
+ * response, one row at a time, so memory stays flat regardless of row count.
+ * Uses its own small connection pool so long exports cannot starve bookings.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExportService {
+
+    public enum Format {
+        NDJSON, CSV;
+
+        public static Format from(String value) {
+            try {
+                return Format.valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Unsupported export format: " + value + ". Use ndjson or csv");
+            }
+        }
+    }
+
+    private static final String BOOKINGS_QUERY = """
+            SELECT b.id AS booking_id, b.user_id, u.full_name, u.email, b.status, b.total_amount,
+                   b.created_at, b.updated_at
+            FROM bookings b
+            JOIN users u ON u.id = b.user_id
+            WHERE b.show_id = ?
+            ORDER BY b.id
+            """;
+
+    private static final String TICKETS_QUERY = """
+            SELECT t.id AS ticket_id, t.booking_id, b.status AS booking_status, b.user_id, u.full_name, u.email,
+                   s.section, s.row, s.seat_number, t.price, t.created_at
+            FROM tickets t
+            JOIN bookings b ON b.id = t.booking_id
+            JOIN users u ON u.id = b.user_id
+            JOIN seats s ON s.id = t.seat_id
+            WHERE b.show_id = ?
+            ORDER BY t.id
+            """;
+
+    private static final String PAYMENTS_QUERY = """
+            SELECT p.id AS payment_id, p.booking_id, b.user_id, p.amount, p.status, p.created_at
+            FROM payments p
+            JOIN bookings b ON b.id = p.booking_id
+            WHERE b.show_id = ?
+            ORDER BY p.id
+            """;
+
+    // Spreadsheets evaluate text cells starting with these as formulas
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final DataSourceProperties dataSourceProperties;
+    private final ShowRepository showRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.export.jdbc-url:}")
+    private String jdbcUrl;
+
+    @Value("${app.export.pool-size:2}")
+    private int poolSize;
+
+    @Value("${app.export.fetch-size:1000}")
+    private int fetchSize;
+
+    private HikariDataSource exportDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        exportDataSource = new HikariDataSource();
+        exportDataSource.setPoolName("export");
+        exportDataSource.setJdbcUrl(jdbcUrl.isBlank() ? dataSourceProperties.determineUrl() : jdbcUrl);
+        exportDataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        exportDataSource.setUsername(dataSourceProperties.determineUsername());
+        exportDataSource.setPassword(dataSourceProperties.determinePassword());
+        exportDataSource.setMaximumPoolSize(poolSize);
+        exportDataSource.setReadOnly(true);
+        exportDataSource.setInitializationFailTimeout(-1);
+        exportDataSource.setMetricRegistry(meterRegistry);
+
+        jdbcTemplate = new JdbcTemplate(exportDataSource);
+        jdbcTemplate.setFetchSize(fetchSize);
+
+        // The Postgres driver only uses a server-side cursor inside a transaction
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(exportDataSource));
+        transactionTemplate.setReadOnly(true);
+    }
+
+    @PreDestroy
+    public void close() {
+        exportDataSource.close();
+    }
+
+    public void validateShow(Long showId) {
+        if (!showRepository.existsById(showId)) {
+            throw new NotFoundException("Show not found with id: " + showId);
+        }
+    }
+
+    public void exportBookings(Long showId, Format format, OutputStream out) {
+        export("bookings", BOOKINGS_QUERY, showId, format, out);
+    }
+
+    public void exportTickets(Long showId, Format format, OutputStream out) {
+        export("tickets", TICKETS_QUERY, showId, format, out);
+    }
+
+    public void exportPayments(Long showId, Format format, OutputStream out) {
+        export("payments", PAYMENTS_QUERY, showId, format, out);
+    }
+
+    private void export(String name, String sql, Long showId, Format format, OutputStream out) {
+        long start = System.currentTimeMillis();
+
+        Long rows = transactionTemplate.execute(status -> jdbcTemplate.query(sql, rs -> {
+            try {
+                return writeRows(rs, format, out);
+            } catch (IOException e) {
+                // Client went away; abort the cursor instead of reading the rest
+                throw new UncheckedIOException(e);
+            }
+        }, showId));
+
+        log.info("Exported {} {} row(s) for show {} as {} in {} ms", rows, name, showId, format,
+                System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Writes every remaining row of the cursor to out as it is read, returning the row count
+     */
+    static long writeRows(ResultSet rs, Format format, OutputStream out) throws SQLException, IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        RowWriter rowWriter = format == Format.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+        rowWriter.start(rs.getMetaData());
+
+        long count = 0;
+        while (rs.next()) {
+            rowWriter.write(rs);
+            count++;
+        }
+        rowWriter.finish();
+        return count;
+    }
+
+    private interface RowWriter {
+        void start(ResultSetMetaData metaData) throws SQLException, IOException;
+
+        void write(ResultSet rs) throws SQLException, IOException;
+
+        void finish() throws IOException;
+    }
+
+    private static final class NdjsonRowWriter implements RowWriter {
+        private final Writer writer;
+        private JsonGenerator generator;
+        private String[] columns;
+
+        NdjsonRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void start(ResultSetMetaData metaData) throws SQLException, IOException {
+            columns = columnLabels(metaData);
+            generator = JSON_FACTORY.createGenerator(writer);
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < columns.length; i++) {
+                Object value = rs.getObject(i + 1);
+                generator.writeFieldName(columns[i]);
+                writeValue(value);
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        private void writeValue(Object value) throws IOException {
+            switch (value) {
+                case null -> generator.writeNull();
+                case BigDecimal decimal -> generator.writeNumber(decimal);
+                case BigInteger integer -> generator.writeNumber(integer);
+                case Long number -> generator.writeNumber(number);
+                case Integer number -> generator.writeNumber(number);
+                case Short number -> generator.writeNumber(number);
+                case Byte number -> generator.writeNumber(number);
+                // NaN and infinities have no JSON number form
+                case Number number when !Double.isFinite(number.doubleValue()) ->
+                        generator.writeString(number.toString());
+                case Number number -> generator.writeNumber(number.doubleValue());
+                case Boolean flag -> generator.writeBoolean(flag);
+                default -> generator.writeString(formatValue(value));
+            }
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.flush();
+        }
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+        private int columnCount;
+
+        CsvRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void start(ResultSetMetaData metaData) throws SQLException, IOException {
+            String[] columns = columnLabels(metaData);
+            columnCount = columns.length;
+            writer.write(String.join(",", columns));
+            writer.write('\n');
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            for (int i = 1; i <= columnCount; i++) {
+                if (i > 1) {
+                    writer.write(',');
+                }
+                Object value = rs.getObject(i);
+                if (value instanceof Number) {
+                    writer.write(formatValue(value));
+                } else if (value != null) {
+                    writer.write(escapeCsv(neutralizeFormula(formatValue(value))));
+                }
+            }
+            writer.write('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+    }
+
+    private static String[] columnLabels(ResultSetMetaData metaData) throws SQLException {
+        String[] columns = new String[metaData.getColumnCount()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = metaData.getColumnLabel(i + 1);
+        }
+        return columns;
+    }
+
+    private static String formatValue(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toInstant().toString();
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        return value.toString();
+    }
+
+    /**
+     * Prefixes text that a spreadsheet would run as a formula with a quote, so it is shown as text
+     */
+    private static String neutralizeFormula(String value) {
+        if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+            return "'" + value;
+        }
+        return value;
+    }
+
+    private static String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
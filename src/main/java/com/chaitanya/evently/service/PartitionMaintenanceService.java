@@ -0,0 +1,41 @@
+package com.chaitanya.evently.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps monthly partitions of bookings, tickets, payments and refunds created
+ * ahead of time, so inserts never fall into the default partition. The SQL
+ * function is idempotent and takes an advisory lock, so every node can run it.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PartitionMaintenanceService {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.partitions.months-ahead:3}")
+    private int monthsAhead;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        ensurePartitions();
+    }
+
+    @Scheduled(cron = "${app.partitions.maintenance-cron:0 15 3 * * *}")
+    public void ensurePartitions() {
+        try {
+            jdbcTemplate.execute("SELECT ensure_monthly_partitions(" + monthsAhead + ")");
+            log.info("Ensured monthly booking partitions {} month(s) ahead", monthsAhead);
+        } catch (Exception e) {
+            log.warn("Failed to create monthly booking partitions: {}", e.getMessage());
+        }
+    }
+}
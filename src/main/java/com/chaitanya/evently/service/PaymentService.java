@@ -5,6 +5,7 @@ import com.chaitanya.evently.dto.payment.PaymentStatusUpdateRequest;
 import com.chaitanya.evently.dto.event.PaginationRequest;
 import com.chaitanya.evently.exception.types.BadRequestException;
 import com.chaitanya.evently.exception.types.NotFoundException;
+import com.chaitanya.evently.logging.LogMarkers;
 import com.chaitanya.evently.model.Payment;
 import com.chaitanya.evently.model.status.PaymentStatus;
 import com.chaitanya.evently.repository.PaymentRepository;
@@ -26,7 +27,7 @@ public class PaymentService {
 
     @Transactional(readOnly = true)
     public Payment getPaymentById(Long id) {
-        Payment payment = paymentRepository.findById(id)
+        Payment payment = paymentRepository.findWithDetailsById(id)
                 .orElseThrow(() -> new NotFoundException("Payment not found with id: " + id));
         return payment;
     }
@@ -53,7 +54,7 @@ public class PaymentService {
 
         payment.setStatus(newStatus);
         Payment updatedPayment = paymentRepository.save(payment);
-        log.info("Updated payment status from {} to {} for payment with id: {}",
+        log.info(LogMarkers.STATE_TRANSITION, "Updated payment status from {} to {} for payment with id: {}",
                 currentStatus, newStatus, updatedPayment.getId());
 
         return updatedPayment;
@@ -71,7 +72,7 @@ public class PaymentService {
     @Transactional(readOnly = true)
     public PaginationResponse<Payment> getAllPayments(PaginationRequest paginationRequest, String baseUrl) {
         Pageable pageable = createPageable(paginationRequest);
-        Page<Payment> paymentPage = paymentRepository.findAll(pageable);
+        Page<Payment> paymentPage = paymentRepository.findAllWithDetails(pageable);
 
         return PaginationResponse.fromPage(paymentPage, baseUrl);
     }
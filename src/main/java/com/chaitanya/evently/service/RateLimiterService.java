@@ -0,0 +1,253 @@
+package com.chaitanya.evently.service;
+
+import com.chaitanya.evently.exception.types.TooManyRequestsException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.exceptions.JedisNoScriptException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate limits booking attempts per user and per show. Each node keeps a token
+ * bucket per key so a burst from one client is turned away without a network
+ * hop; attempts that pass locally are checked against a Redis sliding-window
+ * counter that holds the cluster-wide limit. A Redis rejection drains the local
+ * bucket until the window allows the key again, so the node stops asking.
+ * Redis failures fail open to the local buckets.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimiterService {
+
+    private static final String KEY_PREFIX = "rate_limit:booking:";
+    private static final String SCOPE_USER = "user";
+    private static final String SCOPE_SHOW = "show";
+
+    /**
+     * Sliding-window check over KEYS pairs (current, previous window) with ARGV
+     * triples (limit, window ms, ms elapsed in the current window). Counts only if
+     * every limit allows it; returns {0, 0} or {1-based limit index, wait ms}.
+     */
+    private static final String SLIDING_WINDOW_SCRIPT = """
+            local n = #KEYS / 2
+            for i = 1, n do
+              local limit = tonumber(ARGV[3 * i - 2])
+              local window = tonumber(ARGV[3 * i - 1])
+              local elapsed = tonumber(ARGV[3 * i])
+              local cur = tonumber(redis.call('GET', KEYS[2 * i - 1]) or '0')
+              local prev = tonumber(redis.call('GET', KEYS[2 * i]) or '0')
+              if prev * (window - elapsed) / window + cur + 1 > limit then
+                local wait = window - elapsed
+                if cur + 1 <= limit and prev > 0 then
+                  wait = math.ceil(window * (1 - (limit - cur - 1) / prev)) - elapsed
+                end
+                return {i, math.max(wait, 1)}
+              end
+            end
+            for i = 1, n do
+              redis.call('INCR', KEYS[2 * i - 1])
+              redis.call('PEXPIRE', KEYS[2 * i - 1], 2 * tonumber(ARGV[3 * i - 1]))
+            end
+            return {0, 0}
+            """;
+
+    private final JedisPool jedisPool;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.rate-limit.booking.user-limit:10}")
+    private int userLimit;
+
+    @Value("${app.rate-limit.booking.user-window-seconds:60}")
+    private long userWindowSeconds;
+
+    @Value("${app.rate-limit.booking.show-limit:500}")
+    private int showLimit;
+
+    @Value("${app.rate-limit.booking.show-window-seconds:1}")
+    private long showWindowSeconds;
+
+    @Value("${app.rate-limit.local-max-keys:100000}")
+    private long localMaxKeys;
+
+    private Cache<String, TokenBucket> localBuckets;
+    private volatile String scriptSha;
+
+    @PostConstruct
+    public void init() {
+        localBuckets = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofSeconds(Math.max(userWindowSeconds, showWindowSeconds) * 2))
+                .maximumSize(localMaxKeys)
+                .build();
+    }
+
+    /**
+     * Counts a booking attempt against the user's and the show's limits.
+     * Throws TooManyRequestsException carrying the seconds until a retry can pass.
+     */
+    public void checkBookingAttempt(Long userId, Long showId) {
+        if (!enabled) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        TokenBucket userBucket = bucket(SCOPE_USER, userId, userLimit, userWindowSeconds);
+        TokenBucket showBucket = bucket(SCOPE_SHOW, showId, showLimit, showWindowSeconds);
+
+        long userWait = userBucket.tryAcquire(now);
+        if (userWait > 0) {
+            reject(SCOPE_USER, "local", userId, TimeUnit.NANOSECONDS.toMillis(userWait));
+        }
+        long showWait = showBucket.tryAcquire(now);
+        if (showWait > 0) {
+            userBucket.refund();
+            reject(SCOPE_SHOW, "local", showId, TimeUnit.NANOSECONDS.toMillis(showWait));
+        }
+
+        List<Long> verdict = checkRedis(userId, showId);
+        if (verdict == null || verdict.get(0) == 0) {
+            return;
+        }
+
+        long waitMs = verdict.get(1);
+        long waitNanos = TimeUnit.MILLISECONDS.toNanos(waitMs);
+        if (verdict.get(0) == 1) {
+            userBucket.drain(now, waitNanos);
+            showBucket.refund();
+            reject(SCOPE_USER, "redis", userId, waitMs);
+        }
+        showBucket.drain(now, waitNanos);
+        userBucket.refund();
+        reject(SCOPE_SHOW, "redis", showId, waitMs);
+    }
+
+    private TokenBucket bucket(String scope, Long id, int limit, long windowSeconds) {
+        return localBuckets.get(scope + ":" + id,
+                key -> new TokenBucket(limit, Duration.ofSeconds(windowSeconds), System.nanoTime()));
+    }
+
+    /**
+     * Returns the script's verdict, or null when Redis is unavailable.
+     */
+    @SuppressWarnings("unchecked")
+    private List<Long> checkRedis(Long userId, Long showId) {
+        long nowMs = System.currentTimeMillis();
+        long userWindowMs = TimeUnit.SECONDS.toMillis(userWindowSeconds);
+        long showWindowMs = TimeUnit.SECONDS.toMillis(showWindowSeconds);
+        long userIndex = nowMs / userWindowMs;
+        long showIndex = nowMs / showWindowMs;
+
+        List<String> keys = List.of(
+                windowKey(SCOPE_USER, userId, userIndex), windowKey(SCOPE_USER, userId, userIndex - 1),
+                windowKey(SCOPE_SHOW, showId, showIndex), windowKey(SCOPE_SHOW, showId, showIndex - 1));
+        List<String> args = List.of(
+                String.valueOf(userLimit), String.valueOf(userWindowMs), String.valueOf(nowMs % userWindowMs),
+                String.valueOf(showLimit), String.valueOf(showWindowMs), String.valueOf(nowMs % showWindowMs));
+
+        try (Jedis jedis = jedisPool.getResource()) {
+            String sha = scriptSha;
+            if (sha == null) {
+                sha = scriptSha = jedis.scriptLoad(SLIDING_WINDOW_SCRIPT);
+            }
+            try {
+                return (List<Long>) jedis.evalsha(sha, keys, args);
+            } catch (JedisNoScriptException e) {
+                // Script cache was flushed or Redis failed over
+                scriptSha = jedis.scriptLoad(SLIDING_WINDOW_SCRIPT);
+                return (List<Long>) jedis.evalsha(scriptSha, keys, args);
+            }
+        } catch (Exception e) {
+            log.debug("Rate limit check against Redis failed, using local limits only: {}", e.getMessage());
+            Counter.builder("booking.rate_limit.redis_errors")
+                    .description("Booking rate limit checks that fell back to local buckets")
+                    .register(meterRegistry)
+                    .increment();
+            return null;
+        }
+    }
+
+    private static String windowKey(String scope, Long id, long windowIndex) {
+        return KEY_PREFIX + scope + ":" + id + ":" + windowIndex;
+    }
+
+    private void reject(String scope, String layer, Long id, long waitMs) {
+        Counter.builder("booking.rate_limited")
+                .description("Booking attempts rejected by the rate limiter")
+                .tags("scope", scope, "layer", layer)
+                .register(meterRegistry)
+                .increment();
+        long retryAfterSeconds = Math.max(1, TimeUnit.MILLISECONDS.toSeconds(waitMs + 999));
+        log.debug("Booking attempt rate limited by {} limit for {} {} ({}), retry after {}s",
+                scope, scope, id, layer, retryAfterSeconds);
+        throw new TooManyRequestsException(
+                "Too many booking attempts for this " + scope + ", retry after " + retryAfterSeconds + " seconds",
+                retryAfterSeconds);
+    }
+
+    /**
+     * Node-local token bucket holding up to the limit and refilling the whole
+     * limit once per window. Times are System.nanoTime() readings.
+     */
+    static final class TokenBucket {
+
+        private final double capacity;
+        private final double refillPerNano;
+        private double tokens;
+        private long lastRefillNanos;
+
+        TokenBucket(int capacity, Duration window, long nowNanos) {
+            this.capacity = capacity;
+            this.refillPerNano = capacity / (double) window.toNanos();
+            this.tokens = capacity;
+            this.lastRefillNanos = nowNanos;
+        }
+
+        /**
+         * Takes a token, returning 0, or the nanos until one is available.
+         */
+        synchronized long tryAcquire(long nowNanos) {
+            refill(nowNanos);
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return Math.max(1, (long) Math.ceil((1 - tokens) / refillPerNano));
+        }
+
+        /**
+         * Returns a token taken for an attempt that was rejected elsewhere.
+         */
+        synchronized void refund() {
+            tokens = Math.min(capacity, tokens + 1);
+        }
+
+        /**
+         * Empties the bucket so the next token is available only after the wait.
+         */
+        synchronized void drain(long nowNanos, long waitNanos) {
+            refill(nowNanos);
+            tokens = Math.min(tokens, 1 - waitNanos * refillPerNano);
+        }
+
+        private void refill(long nowNanos) {
+            if (nowNanos > lastRefillNanos) {
+                tokens = Math.min(capacity, tokens + (nowNanos - lastRefillNanos) * refillPerNano);
+                lastRefillNanos = nowNanos;
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.chaitanya.evently.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisPubSub;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Node-to-node messaging over Redis pub/sub. Handlers register their channel
+ * during startup; a single background subscriber then listens on all of them
+ * and reconnects if Redis goes away.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RedisPubSubService {
+
+    private static final long RECONNECT_DELAY_MS = 5000;
+
+    private final JedisPool jedisPool;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, Consumer<String>> handlers = new ConcurrentHashMap<>();
+    private volatile boolean running = true;
+    private volatile JedisPubSub subscriber;
+
+    /**
+     * Identifies this application instance, so publishers can ignore their own messages
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Registers a handler for a channel. Must be called before the application is ready.
+     */
+    public void subscribe(String channel, Consumer<String> handler) {
+        handlers.put(channel, handler);
+    }
+
+    /**
+     * Publishes a message; failures are logged and swallowed since receivers fall back to TTL expiry
+     */
+    public void publish(String channel, String message) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            jedis.publish(channel, message);
+        } catch (Exception e) {
+            log.warn("Failed to publish message on channel {}: {}", channel, e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startSubscriber() {
+        if (handlers.isEmpty()) {
+            return;
+        }
+
+        Thread thread = new Thread(this::listen, "redis-pubsub-subscriber");
+        thread.setDaemon(true);
+        thread.start();
+        log.info("Started Redis pub/sub subscriber for channels {}", handlers.keySet());
+    }
+
+    @PreDestroy
+    public void stopSubscriber() {
+        running = false;
+        JedisPubSub current = subscriber;
+        if (current != null && current.isSubscribed()) {
+            current.unsubscribe();
+        }
+    }
+
+    private void listen() {
+        while (running) {
+            try (Jedis jedis = jedisPool.getResource()) {
+                subscriber = new JedisPubSub() {
+                    @Override
+                    public void onMessage(String channel, String message) {
+                        dispatch(channel, message);
+                    }
+                };
+                jedis.subscribe(subscriber, handlers.keySet().toArray(String[]::new));
+            } catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Redis pub/sub subscription lost, retrying in {} ms: {}", RECONNECT_DELAY_MS, e.getMessage());
+                sleepBeforeReconnect();
+            }
+        }
+    }
+
+    private void dispatch(String channel, String message) {
+        Consumer<String> handler = handlers.get(channel);
+        if (handler == null) {
+            return;
+        }
+        try {
+            handler.accept(message);
+        } catch (Exception e) {
+            log.error("Error handling message on channel {}: {}", channel, e.getMessage(), e);
+        }
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(RECONNECT_DELAY_MS);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
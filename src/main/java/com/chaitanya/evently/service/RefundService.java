@@ -24,7 +24,7 @@ public class RefundService {
 
     @Transactional(readOnly = true)
     public Refund getRefundById(Long id) {
-        Refund refund = refundRepository.findById(id)
+        Refund refund = refundRepository.findWithDetailsById(id)
                 .orElseThrow(() -> new NotFoundException("Refund not found with id: " + id));
         return refund;
     }
@@ -41,7 +41,7 @@ public class RefundService {
     @Transactional(readOnly = true)
     public PaginationResponse<Refund> getAllRefunds(PaginationRequest paginationRequest, String baseUrl) {
         Pageable pageable = createPageable(paginationRequest);
-        Page<Refund> refundPage = refundRepository.findAll(pageable);
+        Page<Refund> refundPage = refundRepository.findAllWithDetails(pageable);
 
         return PaginationResponse.fromPage(refundPage, baseUrl);
     }
@@ -0,0 +1,136 @@
+package com.chaitanya.evently.service;
+
+import com.chaitanya.evently.logging.LogMarkers;
+import com.chaitanya.evently.repository.ShowRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Moves the bookings, tickets, payments and refunds of closed and cancelled
+ * shows into the archive partitions, in bounded chunks with one short
+ * transaction each. Archived rows stay in the same parent tables, so every
+ * read (user history included) still finds them; only the live partitions'
+ * indexes shrink. Nodes skip shows another node is already archiving.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ShowArchiveService {
+
+    private static final String LOCK_SHOW_SQL = "SELECT id FROM shows WHERE id = ? AND archived_at IS NULL "
+            + "FOR NO KEY UPDATE SKIP LOCKED";
+
+    // Children first; each UPDATE moves rows from the live to the archive partition
+    private static final String ARCHIVE_CHUNK_SQL = """
+            WITH batch AS (
+                SELECT id FROM bookings WHERE show_id = ? AND NOT archived LIMIT ?
+            ), archived_refunds AS (
+                UPDATE refunds SET archived = TRUE WHERE booking_id IN (SELECT id FROM batch) AND NOT archived
+            ), archived_payments AS (
+                UPDATE payments SET archived = TRUE WHERE booking_id IN (SELECT id FROM batch) AND NOT archived
+            ), archived_tickets AS (
+                UPDATE tickets SET archived = TRUE WHERE booking_id IN (SELECT id FROM batch) AND NOT archived
+            ), archived_bookings AS (
+                UPDATE bookings SET archived = TRUE WHERE id IN (SELECT id FROM batch) AND NOT archived
+                RETURNING id
+            )
+            SELECT COUNT(*) FROM archived_bookings
+            """;
+
+    private static final String MARK_ARCHIVED_SQL = "UPDATE shows SET archived_at = CURRENT_TIMESTAMP WHERE id = ?";
+
+    private final ShowRepository showRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final SoldOutService soldOutService;
+
+    @Value("${app.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.archive.min-age-hours:24}")
+    private long minAgeHours;
+
+    @Value("${app.archive.shows-per-run:50}")
+    private int showsPerRun;
+
+    @Value("${app.archive.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${app.archive.chunk-pause-ms:50}")
+    private long chunkPauseMs;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Archives shows that were closed or cancelled more than min-age-hours ago
+     */
+    @Scheduled(fixedDelayString = "${app.archive.interval-ms:600000}")
+    public void archiveClosedShows() {
+        if (!enabled) {
+            return;
+        }
+
+        Instant before = Instant.now().minus(Duration.ofHours(minAgeHours));
+        for (Long showId : showRepository.findIdsPendingArchive(before, showsPerRun)) {
+            try {
+                archiveShow(showId);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.warn("Failed to archive show {}: {}", showId, e.getMessage());
+            }
+        }
+    }
+
+    private void archiveShow(Long showId) throws InterruptedException {
+        long start = System.currentTimeMillis();
+        long total = 0;
+
+        while (true) {
+            Long moved = transactionTemplate.execute(status -> {
+                if (jdbcTemplate.queryForList(LOCK_SHOW_SQL, Long.class, showId).isEmpty()) {
+                    return null;
+                }
+                long rows = jdbcTemplate.queryForObject(ARCHIVE_CHUNK_SQL, Long.class, showId, chunkSize);
+                if (rows == 0) {
+                    jdbcTemplate.update(MARK_ARCHIVED_SQL, showId);
+                }
+                return rows;
+            });
+
+            if (moved == null) {
+                // Already archived, or another node holds the show
+                return;
+            }
+            if (moved == 0) {
+                break;
+            }
+            total += moved;
+            if (chunkPauseMs > 0) {
+                // Give OLTP traffic a chance at the locks between chunks
+                Thread.sleep(chunkPauseMs);
+            }
+        }
+
+        log.info(LogMarkers.STATE_TRANSITION, "Archived {} booking(s) of show {} in {} ms",
+                total, showId, System.currentTimeMillis() - start);
+        soldOutService.showsRemovedAfterCommit(List.of(showId));
+    }
+}
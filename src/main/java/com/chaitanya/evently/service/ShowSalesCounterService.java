@@ -0,0 +1,409 @@
+package com.chaitanya.evently.service;
+
+import com.chaitanya.evently.config.PrimaryRouting;
+import com.chaitanya.evently.model.ShowSalesCounter;
+import com.chaitanya.evently.repository.ShowSalesCounterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.Transaction;
+import redis.clients.jedis.params.SetParams;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Per-show sales counters (sold, held, revenue, cancellations).
+ *
+ * Sold, revenue and cancellations are applied to the show_sales_counters rollup
+ * inside the booking transaction and mirrored to a Redis hash after commit.
+ * Holds only exist in Redis: each reservation is a member of a per-show sorted
+ * set scored by its expiry, so expired holds can be swept without a callback.
+ * A scheduled reconciler recomputes everything from the source tables.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ShowSalesCounterService {
+
+    private static final String COUNTERS_PREFIX = "show_counters:";
+    private static final String HOLDS_PREFIX = "show_holds:";
+    private static final String HOLDS_INDEX_KEY = "show_holds:index";
+    private static final String RECONCILE_LOCK_KEY = "show_counters:reconcile_lock";
+
+    private static final String FIELD_SOLD = "sold";
+    private static final String FIELD_HELD = "held";
+    private static final String FIELD_REVENUE_CENTS = "revenue_cents";
+    private static final String FIELD_CANCELLATIONS = "cancellations";
+
+    /**
+     * Applies a sale, cancellation or removal (ARGV sold, revenue cents,
+     * cancellations deltas) to KEYS[1], only if the reconciler has seeded it
+     */
+    private static final String MIRROR_SCRIPT = """
+            if redis.call('HEXISTS', KEYS[1], 'sold') == 0 then
+              return 0
+            end
+            redis.call('HINCRBY', KEYS[1], 'sold', ARGV[1])
+            redis.call('HINCRBY', KEYS[1], 'revenue_cents', ARGV[2])
+            redis.call('HINCRBY', KEYS[1], 'cancellations', ARGV[3])
+            return 1
+            """;
+
+    /**
+     * Overwrites sold, revenue cents and cancellations in KEYS[1] with ARGV[4..6]
+     * only if they still equal ARGV[1..3] ('' for missing), the values read
+     * before the database snapshot was taken. Returns 1 if written.
+     */
+    private static final String RECONCILE_SCRIPT = """
+            local current = redis.call('HMGET', KEYS[1], 'sold', 'revenue_cents', 'cancellations')
+            for i = 1, 3 do
+              if (current[i] or '') ~= ARGV[i] then
+                return 0
+              end
+            end
+            redis.call('HSET', KEYS[1], 'sold', ARGV[4], 'revenue_cents', ARGV[5], 'cancellations', ARGV[6])
+            return 1
+            """;
+
+    /**
+     * Drops the holds in KEYS[1] that expired by ARGV[1] and sets the held field
+     * of KEYS[2] to the seats still held, removing show ARGV[2] from the index
+     * in KEYS[3] once it has no holds left
+     */
+    private static final String SWEEP_SCRIPT = """
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[1])
+            local held = 0
+            local members = redis.call('ZRANGE', KEYS[1], 0, -1)
+            for _, member in ipairs(members) do
+              held = held + tonumber(string.match(member, ':(%d+)$'))
+            end
+            redis.call('HSET', KEYS[2], 'held', held)
+            if #members == 0 then
+              redis.call('SREM', KEYS[3], ARGV[2])
+            end
+            return held
+            """;
+
+    /**
+     * Removes hold ARGV[1] from KEYS[1] and, if it was still there, gives its
+     * ARGV[2] seats back in the held field of KEYS[2]
+     */
+    private static final String RELEASE_SCRIPT = """
+            if redis.call('ZREM', KEYS[1], ARGV[1]) == 0 then
+              return 0
+            end
+            redis.call('HINCRBY', KEYS[2], 'held', -tonumber(ARGV[2]))
+            return 1
+            """;
+
+    private final ShowSalesCounterRepository showSalesCounterRepository;
+    private final JedisPool jedisPool;
+
+    @Value("${app.sales-counters.reconcile-lookback-hours:24}")
+    private long reconcileLookbackHours;
+
+    @Value("${app.sales-counters.reconcile-lock-seconds:60}")
+    private long reconcileLockSeconds;
+
+    /**
+     * Records seats held by a new reservation until it expires. The hold and the
+     * held count change together, so the sweeper never sees one without the other.
+     */
+    public void recordHold(Long showId, String reservationId, int seats, Instant expiresAt) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            Transaction transaction = jedis.multi();
+            transaction.zadd(HOLDS_PREFIX + showId, expiresAt.toEpochMilli(), holdMember(reservationId, seats));
+            transaction.sadd(HOLDS_INDEX_KEY, String.valueOf(showId));
+            transaction.hincrBy(COUNTERS_PREFIX + showId, FIELD_HELD, seats);
+            transaction.exec();
+        } catch (Exception e) {
+            log.warn("Failed to record hold for show {}: {}", showId, e.getMessage());
+        }
+    }
+
+    /**
+     * Releases a hold once its reservation is paid for or abandoned. A hold that
+     * already expired and was swept is not decremented twice.
+     */
+    public void releaseHold(Long showId, String reservationId, int seats) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            jedis.eval(RELEASE_SCRIPT, List.of(HOLDS_PREFIX + showId, COUNTERS_PREFIX + showId),
+                    List.of(holdMember(reservationId, seats), String.valueOf(seats)));
+        } catch (Exception e) {
+            log.warn("Failed to release hold for show {}: {}", showId, e.getMessage());
+        }
+    }
+
+    /**
+     * Records a confirmed booking. Must be called inside the booking transaction.
+     */
+    public void recordSale(Long showId, int seats, BigDecimal amount) {
+        applyDelta(showId, seats, amount, 0);
+    }
+
+    /**
+     * Records a cancelled booking whose tickets were released. Must be called inside the booking transaction.
+     */
+    public void recordCancellation(Long showId, int seats, BigDecimal amount) {
+        applyDelta(showId, -seats, amount.negate(), 1);
+    }
+
+    /**
+     * Records a confirmed booking that was deleted outright. Must be called inside the booking transaction.
+     */
+    public void recordRemoval(Long showId, int seats, BigDecimal amount) {
+        applyDelta(showId, -seats, amount.negate(), 0);
+    }
+
+    /**
+     * Seats left per show, given each show's venue capacity. Served from Redis in
+     * one round trip; shows missing there fall back to the Postgres rollup.
+     */
+    public Map<Long, Integer> getSeatsLeft(Map<Long, Integer> capacityByShowId) {
+        Map<Long, Integer> seatsLeft = new HashMap<>();
+        if (capacityByShowId.isEmpty()) {
+            return seatsLeft;
+        }
+
+        List<Long> missing = new ArrayList<>();
+        try (Jedis jedis = jedisPool.getResource()) {
+            Pipeline pipeline = jedis.pipelined();
+            Map<Long, Response<List<String>>> responses = new LinkedHashMap<>();
+            for (Long showId : capacityByShowId.keySet()) {
+                responses.put(showId, pipeline.hmget(COUNTERS_PREFIX + showId, FIELD_SOLD, FIELD_HELD));
+            }
+            pipeline.sync();
+
+            responses.forEach((showId, response) -> {
+                List<String> values = response.get();
+                if (values.get(0) == null) {
+                    missing.add(showId);
+                    return;
+                }
+                int sold = Integer.parseInt(values.get(0));
+                int held = values.get(1) == null ? 0 : Integer.parseInt(values.get(1));
+                seatsLeft.put(showId, Math.max(0, capacityByShowId.get(showId) - sold - held));
+            });
+        } catch (Exception e) {
+            log.warn("Failed to read show counters from Redis, using database rollup: {}", e.getMessage());
+            missing.clear();
+            missing.addAll(capacityByShowId.keySet());
+        }
+
+        if (!missing.isEmpty()) {
+            Map<Long, Integer> soldByShowId = new HashMap<>();
+            showSalesCounterRepository.findAllById(missing)
+                    .forEach(counter -> soldByShowId.put(counter.getShowId(), counter.getSeatsSold()));
+            for (Long showId : missing) {
+                int sold = soldByShowId.getOrDefault(showId, 0);
+                seatsLeft.put(showId, Math.max(0, capacityByShowId.get(showId) - sold));
+            }
+        }
+        return seatsLeft;
+    }
+
+    /**
+     * Rollup counters for one show; zeros if it has no sales yet
+     */
+    public ShowSalesCounter getCounter(Long showId) {
+        return showSalesCounterRepository.findById(showId)
+                .orElseGet(() -> ShowSalesCounter.builder()
+                        .showId(showId)
+                        .seatsSold(0)
+                        .revenue(BigDecimal.ZERO)
+                        .cancellations(0)
+                        .build());
+    }
+
+    /**
+     * Seats currently held by unpaid reservations, or 0 if Redis is unavailable
+     */
+    public int getSeatsHeld(Long showId) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            String held = jedis.hget(COUNTERS_PREFIX + showId, FIELD_HELD);
+            return held == null ? 0 : Math.max(0, Integer.parseInt(held));
+        } catch (Exception e) {
+            log.warn("Failed to read held seats for show {}: {}", showId, e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * After shows are deleted, drops their Redis counters and holds so nothing
+     * keeps serving or sweeping them
+     */
+    public void showsRemovedAfterCommit(Collection<Long> showIds) {
+        if (showIds.isEmpty()) {
+            return;
+        }
+        List<Long> removed = List.copyOf(showIds);
+        Runnable clear = () -> clearShows(removed);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            clear.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                clear.run();
+            }
+        });
+    }
+
+    /**
+     * Corrects drift: recomputes the rollup from tickets and bookings for upcoming
+     * and recent shows, republishes it to Redis and sweeps expired holds. Runs on
+     * one node at a time.
+     *
+     * Sales keep being mirrored into Redis while this runs, so a hash is only
+     * overwritten if it still holds the values read before the database snapshot;
+     * one that changed in between is left for the next run.
+     */
+    @Scheduled(fixedDelayString = "${app.sales-counters.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        if (!acquireReconcileLock()) {
+            return;
+        }
+
+        Instant since = Instant.now().minus(Duration.ofHours(reconcileLookbackHours));
+        int corrected = showSalesCounterRepository.reconcileShowsStartingSince(since);
+        if (corrected > 0) {
+            log.info("Reconciled {} show sales counter(s)", corrected);
+        }
+
+        try (Jedis jedis = jedisPool.getResource()) {
+            // The snapshot must come from the primary: a lagging replica would overwrite newer sales
+            List<Long> showIds = PrimaryRouting.call(() -> showSalesCounterRepository.findShowIdsStartingSince(since));
+            Map<Long, List<String>> before = readCounters(jedis, showIds);
+            List<ShowSalesCounter> snapshot = PrimaryRouting.call(
+                    () -> showSalesCounterRepository.findByShowsStartingSince(since));
+
+            Pipeline pipeline = jedis.pipelined();
+            List<Response<Object>> results = new ArrayList<>();
+            for (ShowSalesCounter counter : snapshot) {
+                List<String> expected = before.get(counter.getShowId());
+                if (expected == null) {
+                    // Created after the values were read; picked up by the next run
+                    continue;
+                }
+                List<String> args = new ArrayList<>(expected);
+                args.add(String.valueOf(counter.getSeatsSold()));
+                args.add(String.valueOf(toCents(counter.getRevenue())));
+                args.add(String.valueOf(counter.getCancellations()));
+                results.add(pipeline.eval(RECONCILE_SCRIPT, List.of(COUNTERS_PREFIX + counter.getShowId()), args));
+            }
+            pipeline.sync();
+            long skipped = results.stream().filter(result -> Long.valueOf(0).equals(result.get())).count();
+            if (skipped > 0) {
+                log.debug("Skipped {} show counter(s) that changed during reconciliation", skipped);
+            }
+
+            sweepExpiredHolds(jedis);
+        } catch (Exception e) {
+            log.warn("Failed to publish reconciled show counters to Redis: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Sold, revenue cents and cancellations per show as stored in Redis, '' where missing
+     */
+    private Map<Long, List<String>> readCounters(Jedis jedis, List<Long> showIds) {
+        Pipeline pipeline = jedis.pipelined();
+        Map<Long, Response<List<String>>> responses = new LinkedHashMap<>();
+        for (Long showId : showIds) {
+            responses.put(showId,
+                    pipeline.hmget(COUNTERS_PREFIX + showId, FIELD_SOLD, FIELD_REVENUE_CENTS, FIELD_CANCELLATIONS));
+        }
+        pipeline.sync();
+
+        Map<Long, List<String>> counters = new HashMap<>();
+        responses.forEach((showId, response) -> counters.put(showId,
+                response.get().stream().map(value -> value == null ? "" : value).toList()));
+        return counters;
+    }
+
+    private void applyDelta(Long showId, int seats, BigDecimal amount, int cancellations) {
+        showSalesCounterRepository.applyDelta(showId, seats, amount, cancellations);
+
+        Runnable mirror = () -> mirrorToRedis(showId, seats, amount, cancellations);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            mirror.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                mirror.run();
+            }
+        });
+    }
+
+    private void mirrorToRedis(Long showId, int seats, BigDecimal amount, int cancellations) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            // Only increment a hash the reconciler has seeded; otherwise readers fall back to the rollup
+            jedis.eval(MIRROR_SCRIPT, List.of(COUNTERS_PREFIX + showId), List.of(String.valueOf(seats),
+                    String.valueOf(toCents(amount)), String.valueOf(cancellations)));
+        } catch (Exception e) {
+            log.warn("Failed to mirror sales counters for show {} to Redis: {}", showId, e.getMessage());
+        }
+    }
+
+    private void clearShows(List<Long> showIds) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            Pipeline pipeline = jedis.pipelined();
+            for (Long showId : showIds) {
+                pipeline.del(COUNTERS_PREFIX + showId, HOLDS_PREFIX + showId);
+            }
+            pipeline.srem(HOLDS_INDEX_KEY, showIds.stream().map(String::valueOf).toArray(String[]::new));
+            pipeline.sync();
+        } catch (Exception e) {
+            log.warn("Failed to clear sales counters for shows {}: {}", showIds, e.getMessage());
+        }
+    }
+
+    private void sweepExpiredHolds(Jedis jedis) {
+        String now = String.valueOf(Instant.now().toEpochMilli());
+        Set<String> showIds = jedis.smembers(HOLDS_INDEX_KEY);
+        Pipeline pipeline = jedis.pipelined();
+        for (String showId : showIds) {
+            pipeline.eval(SWEEP_SCRIPT, List.of(HOLDS_PREFIX + showId, COUNTERS_PREFIX + showId, HOLDS_INDEX_KEY),
+                    List.of(now, showId));
+        }
+        pipeline.sync();
+    }
+
+    private boolean acquireReconcileLock() {
+        try (Jedis jedis = jedisPool.getResource()) {
+            return jedis.set(RECONCILE_LOCK_KEY, "1", SetParams.setParams().nx().ex(reconcileLockSeconds)) != null;
+        } catch (Exception e) {
+            // Without Redis there is nothing to coordinate on; reconciling the rollup is idempotent
+            log.warn("Failed to acquire reconcile lock, reconciling anyway: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    private String holdMember(String reservationId, int seats) {
+        return reservationId + ":" + seats;
+    }
+
+    private long toCents(BigDecimal amount) {
+        return amount.movePointRight(2).longValue();
+    }
+}
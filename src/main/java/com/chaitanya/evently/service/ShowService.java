@@ -1,16 +1,22 @@
 package com.chaitanya.evently.service;
 
 import com.chaitanya.evently.dto.PaginationResponse;
+import com.chaitanya.evently.dto.show.ShowBulkRequest;
+import com.chaitanya.evently.dto.show.ShowBulkResponse;
 import com.chaitanya.evently.dto.show.ShowRequest;
+import com.chaitanya.evently.dto.show.ShowResponse;
+import com.chaitanya.evently.dto.show.ShowSalesResponse;
 import com.chaitanya.evently.dto.show.ShowStatusUpdateRequest;
 import com.chaitanya.evently.dto.event.PaginationRequest;
 import com.chaitanya.evently.exception.types.BadRequestException;
 import com.chaitanya.evently.exception.types.ConflictException;
 import com.chaitanya.evently.exception.types.NotFoundException;
+import com.chaitanya.evently.logging.LogMarkers;
 import com.chaitanya.evently.model.Booking;
 import com.chaitanya.evently.model.Email;
 import com.chaitanya.evently.model.Event;
 import com.chaitanya.evently.model.Show;
+import com.chaitanya.evently.model.ShowSalesCounter;
 import com.chaitanya.evently.model.Venue;
 import com.chaitanya.evently.model.status.BookingStatus;
 import com.chaitanya.evently.model.status.ShowStatus;
@@ -19,8 +25,10 @@ import com.chaitanya.evently.repository.EmailRepository;
 import com.chaitanya.evently.repository.EventRepository;
 import com.chaitanya.evently.repository.ShowRepository;
 import com.chaitanya.evently.repository.VenueRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -28,26 +36,41 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DateTimeException;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ShowService {
 
+    private static final String OVERLAP_CONSTRAINT = "excl_shows_venue_time_overlap";
+    private static final int MAX_BULK_OCCURRENCES = 1000;
+
     private final ShowRepository showRepository;
     private final VenueRepository venueRepository;
     private final EventRepository eventRepository;
     private final BookingRepository bookingRepository;
     private final EmailRepository emailRepository;
     private final BookingWorkflowService bookingWorkflowService;
+    private final EntityCacheInvalidationService entityCacheInvalidationService;
+    private final CatalogCacheService catalogCacheService;
+    private final ShowSalesCounterService showSalesCounterService;
+    private final SoldOutService soldOutService;
 
     @Transactional(readOnly = true)
-    public Show getShowById(Long id) {
-        Show show = showRepository.findById(id)
+    public ShowResponse getShowById(Long id) {
+        Show show = showRepository.findWithVenueAndEventById(id)
                 .orElseThrow(() -> new NotFoundException("Show not found with id: " + id));
-        return show;
+        return withSeatsLeft(ShowResponse.from(show));
     }
 
     @Transactional(readOnly = true)
@@ -59,30 +82,48 @@ public class ShowService {
     }
 
     @Transactional(readOnly = true)
-    public PaginationResponse<Show> getShowsByVenueId(Long venueId, PaginationRequest paginationRequest,
+    public PaginationResponse<ShowResponse> getShowsByVenueId(Long venueId, PaginationRequest paginationRequest,
             String baseUrl) {
         Pageable pageable = createPageable(paginationRequest);
         Page<Show> showPage = showRepository.findByVenueId(venueId, pageable);
 
-        return PaginationResponse.fromPage(showPage, baseUrl);
+        return withSeatsLeft(PaginationResponse.fromPage(showPage.map(ShowResponse::from), baseUrl));
     }
 
     @Transactional(readOnly = true)
-    public PaginationResponse<Show> getShowsByEventId(Long eventId, PaginationRequest paginationRequest,
+    public PaginationResponse<ShowResponse> getShowsByEventId(Long eventId, PaginationRequest paginationRequest,
             String baseUrl) {
         Pageable pageable = createPageable(paginationRequest);
         Page<Show> showPage = showRepository.findByEventId(eventId, pageable);
 
-        return PaginationResponse.fromPage(showPage, baseUrl);
+        return withSeatsLeft(PaginationResponse.fromPage(showPage.map(ShowResponse::from), baseUrl));
+    }
+
+    /**
+     * User-facing show list for an event served from the catalog near-cache
+     */
+    public PaginationResponse<ShowResponse> getCatalogShowsByEventId(Long eventId,
+            PaginationRequest paginationRequest, String baseUrl) {
+        String key = CatalogCacheService.listKey("event", paginationRequest, baseUrl, eventId);
+        // Seats left change with every booking, so they are applied after the cache rather than cached
+        PaginationResponse<ShowResponse> shows = catalogCacheService.get(CatalogCacheService.SHOWS, key,
+                new TypeReference<PaginationResponse<ShowResponse>>() {
+                },
+                () -> {
+                    Pageable pageable = createPageable(paginationRequest);
+                    Page<Show> showPage = showRepository.findByEventId(eventId, pageable);
+                    return PaginationResponse.fromPage(showPage.map(ShowResponse::from), baseUrl);
+                });
+        return withSeatsLeft(shows);
     }
 
     @Transactional(readOnly = true)
-    public PaginationResponse<Show> getShowsByVenueIdAndEventId(Long venueId, Long eventId,
+    public PaginationResponse<ShowResponse> getShowsByVenueIdAndEventId(Long venueId, Long eventId,
             PaginationRequest paginationRequest, String baseUrl) {
         Pageable pageable = createPageable(paginationRequest);
         Page<Show> showPage = showRepository.findByVenueIdAndEventId(venueId, eventId, pageable);
 
-        return PaginationResponse.fromPage(showPage, baseUrl);
+        return withSeatsLeft(PaginationResponse.fromPage(showPage.map(ShowResponse::from), baseUrl));
     }
 
     @Transactional
@@ -94,9 +135,11 @@ public class ShowService {
         // Validate event exists
         Event event = eventRepository.findById(request.getEventId())
                 .orElseThrow(() -> new NotFoundException("Event not found with id: " + request.getEventId()));
+        rejectIfDeletionPending(venue, event);
 
         // Check for overlapping shows at the same venue
-        if (hasOverlappingShows(request.getVenueId(), request.getStartTimestamp(), request.getDurationMinutes())) {
+        if (hasOverlappingShows(request.getVenueId(), request.getStartTimestamp(), request.getDurationMinutes(),
+                null)) {
             throw new ConflictException("Show overlaps with existing show at the same venue");
         }
 
@@ -107,13 +150,86 @@ public class ShowService {
         show.setDurationMinutes(request.getDurationMinutes());
         show.setStatus(ShowStatus.LIVE);
 
-        Show savedShow = showRepository.save(show);
+        Show savedShow = saveCheckingOverlap(show);
         log.info("Created show with id: {} for event: {} at venue: {}",
                 savedShow.getId(), event.getTitle(), venue.getName());
+        catalogCacheService.invalidateAfterCommit(CatalogCacheService.SHOWS);
 
         return savedShow;
     }
 
+    /**
+     * Schedules every occurrence of a recurrence in one go: a single range query
+     * finds existing shows, overlaps are resolved in memory, and the remaining
+     * occurrences are inserted in one statement. Conflicting occurrences are
+     * skipped and reported rather than failing the whole request.
+     */
+    @Transactional
+    public ShowBulkResponse scheduleShows(ShowBulkRequest request) {
+        Venue venue = venueRepository.findById(request.getVenueId())
+                .orElseThrow(() -> new NotFoundException("Venue not found with id: " + request.getVenueId()));
+        Event event = eventRepository.findById(request.getEventId())
+                .orElseThrow(() -> new NotFoundException("Event not found with id: " + request.getEventId()));
+        rejectIfDeletionPending(venue, event);
+
+        List<Instant> starts = expandOccurrences(request);
+        long durationSeconds = request.getDurationMinutes() * 60L;
+        Instant from = starts.get(0);
+        Instant to = starts.get(starts.size() - 1).plusSeconds(durationSeconds);
+
+        // Occupied intervals by start: existing shows (show id) and accepted occurrences (null id)
+        TreeMap<Instant, OccupiedSlot> occupied = new TreeMap<>();
+        for (Show existing : showRepository.findActiveByVenueIdInRange(venue.getId(), from, to)) {
+            Instant existingEnd = existing.getStartTimestamp().plusSeconds(existing.getDurationMinutes() * 60L);
+            occupied.put(existing.getStartTimestamp(), new OccupiedSlot(existingEnd, existing.getId()));
+        }
+
+        List<Instant> accepted = new ArrayList<>();
+        List<ShowBulkResponse.Conflict> conflicts = new ArrayList<>();
+        for (Instant start : starts) {
+            Instant end = start.plusSeconds(durationSeconds);
+            Map.Entry<Instant, OccupiedSlot> clash = findOverlap(occupied, start, end);
+            if (clash != null) {
+                Long conflictingShowId = clash.getValue().showId();
+                conflicts.add(ShowBulkResponse.Conflict.builder()
+                        .startTimestamp(start)
+                        .endTimestamp(end)
+                        .conflictingShowId(conflictingShowId)
+                        .reason(conflictingShowId != null
+                                ? "Overlaps with existing show at the same venue"
+                                : "Overlaps with another occurrence in this request")
+                        .build());
+                continue;
+            }
+            occupied.put(start, new OccupiedSlot(end, null));
+            accepted.add(start);
+        }
+
+        List<ShowBulkResponse.Occurrence> created = new ArrayList<>();
+        if (!accepted.isEmpty()) {
+            List<Long> ids = insertShowBatch(venue.getId(), event.getId(), accepted, request.getDurationMinutes());
+            for (int i = 0; i < accepted.size(); i++) {
+                created.add(ShowBulkResponse.Occurrence.builder()
+                        .showId(ids.get(i))
+                        .startTimestamp(accepted.get(i))
+                        .endTimestamp(accepted.get(i).plusSeconds(durationSeconds))
+                        .build());
+            }
+            catalogCacheService.invalidateAfterCommit(CatalogCacheService.SHOWS);
+        }
+
+        log.info("Scheduled {} of {} shows for event: {} at venue: {} ({} conflicts)",
+                created.size(), starts.size(), event.getTitle(), venue.getName(), conflicts.size());
+
+        return ShowBulkResponse.builder()
+                .requested(starts.size())
+                .createdCount(created.size())
+                .conflictCount(conflicts.size())
+                .created(created)
+                .conflicts(conflicts)
+                .build();
+    }
+
     @Transactional
     public Show updateShow(Long id, ShowRequest request) {
         Show show = showRepository.findById(id)
@@ -126,9 +242,11 @@ public class ShowService {
         // Validate event exists
         Event event = eventRepository.findById(request.getEventId())
                 .orElseThrow(() -> new NotFoundException("Event not found with id: " + request.getEventId()));
+        rejectIfDeletionPending(show.getVenue(), show.getEvent());
+        rejectIfDeletionPending(venue, event);
 
         // Check for overlapping shows at the same venue (excluding current show)
-        if (hasOverlappingShowsExcludingCurrent(request.getVenueId(), request.getStartTimestamp(),
+        if (hasOverlappingShows(request.getVenueId(), request.getStartTimestamp(),
                 request.getDurationMinutes(), id)) {
             throw new ConflictException("Show overlaps with existing show at the same venue");
         }
@@ -138,18 +256,25 @@ public class ShowService {
         show.setStartTimestamp(request.getStartTimestamp());
         show.setDurationMinutes(request.getDurationMinutes());
 
-        Show updatedShow = showRepository.save(show);
+        Show updatedShow = saveCheckingOverlap(show);
         log.info("Updated show with id: {} for event: {} at venue: {}",
                 updatedShow.getId(), event.getTitle(), venue.getName());
+        entityCacheInvalidationService.publishAfterCommit(Show.class, id);
+        catalogCacheService.invalidateAfterCommit(CatalogCacheService.SHOWS);
 
         return updatedShow;
     }
 
+    /**
+     * Returns the response built inside the transaction, since the show's venue and event are lazy
+     */
     @Transactional
-    public Show updateShowStatus(Long id, ShowStatusUpdateRequest request) {
+    public ShowResponse updateShowStatus(Long id, ShowStatusUpdateRequest request) {
         Show show = showRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Show not found with id: " + id));
 
+        rejectIfDeletionPending(show.getVenue(), show.getEvent());
+
         ShowStatus currentStatus = show.getStatus();
         ShowStatus newStatus = request.getStatus();
 
@@ -185,10 +310,12 @@ public class ShowService {
 
         show.setStatus(newStatus);
         Show updatedShow = showRepository.save(show);
-        log.info("Updated show status from {} to {} for show with id: {}",
+        log.info(LogMarkers.STATE_TRANSITION, "Updated show status from {} to {} for show with id: {}",
                 currentStatus, newStatus, updatedShow.getId());
+        entityCacheInvalidationService.publishAfterCommit(Show.class, id);
+        catalogCacheService.invalidateAfterCommit(CatalogCacheService.SHOWS);
 
-        return updatedShow;
+        return ShowResponse.from(updatedShow);
     }
 
     @Transactional
@@ -199,51 +326,159 @@ public class ShowService {
         showRepository.delete(show);
         log.info("Deleted show with id: {} for event: {} at venue: {}",
                 id, show.getEvent().getTitle(), show.getVenue().getName());
+        entityCacheInvalidationService.publishAfterCommit(Show.class, id);
+        catalogCacheService.invalidateAfterCommit(CatalogCacheService.SHOWS);
+        soldOutService.showsRemovedAfterCommit(List.of(id));
+        showSalesCounterService.showsRemovedAfterCommit(List.of(id));
     }
 
-    private boolean hasOverlappingShows(Long venueId, Instant startTimestamp, Integer durationMinutes) {
-        // Instant endTimestamp = startTimestamp.plusSeconds(durationMinutes * 60L);
+    /**
+     * Admin view of a show's sales counters
+     */
+    @Transactional(readOnly = true)
+    public ShowSalesResponse getShowSales(Long id) {
+        Show show = showRepository.findWithVenueAndEventById(id)
+                .orElseThrow(() -> new NotFoundException("Show not found with id: " + id));
 
-        // // Check for overlapping shows at the same venue
-        // List<Show> existingShows = showRepository.findByVenueId(venueId);
+        ShowSalesCounter counter = showSalesCounterService.getCounter(id);
+        int seatsHeld = showSalesCounterService.getSeatsHeld(id);
+        int capacity = show.getVenue().getCapacity();
+
+        return ShowSalesResponse.builder()
+                .showId(id)
+                .capacity(capacity)
+                .seatsSold(counter.getSeatsSold())
+                .seatsHeld(seatsHeld)
+                .seatsLeft(Math.max(0, capacity - counter.getSeatsSold() - seatsHeld))
+                .revenue(counter.getRevenue())
+                .cancellations(counter.getCancellations())
+                .updatedAt(counter.getUpdatedAt())
+                .build();
+    }
 
-        // for (Show existingShow : existingShows) {
-        // Instant existingStart = existingShow.getStartTimestamp();
-        // Instant existingEnd =
-        // existingStart.plusSeconds(existingShow.getDurationMinutes() * 60L);
+    private ShowResponse withSeatsLeft(ShowResponse show) {
+        Map<Long, Integer> seatsLeft = showSalesCounterService
+                .getSeatsLeft(Map.of(show.getId(), show.getVenue().getCapacity()));
+        return show.toBuilder().seatsLeft(seatsLeft.get(show.getId())).build();
+    }
 
-        // // Check if shows overlap
-        // if (startTimestamp.isBefore(existingEnd) &&
-        // endTimestamp.isAfter(existingStart)) {
-        // return true;
-        // }
-        // }
+    private PaginationResponse<ShowResponse> withSeatsLeft(PaginationResponse<ShowResponse> shows) {
+        Map<Long, Integer> capacityByShowId = new HashMap<>();
+        shows.getContent().forEach(show -> capacityByShowId.put(show.getId(), show.getVenue().getCapacity()));
 
-        return false;
+        Map<Long, Integer> seatsLeft = showSalesCounterService.getSeatsLeft(capacityByShowId);
+        return shows.map(show -> show.toBuilder().seatsLeft(seatsLeft.get(show.getId())).build());
     }
 
-    private boolean hasOverlappingShowsExcludingCurrent(Long venueId, Instant startTimestamp, Integer durationMinutes,
-            Long currentShowId) {
-        Instant endTimestamp = startTimestamp.plusSeconds(durationMinutes * 60L);
+    /**
+     * Expands the recurrence into sorted, distinct start instants
+     */
+    private List<Instant> expandOccurrences(ShowBulkRequest request) {
+        ZoneId zone;
+        try {
+            zone = ZoneId.of(request.getTimeZone());
+        } catch (DateTimeException e) {
+            throw new BadRequestException("Invalid time zone: " + request.getTimeZone());
+        }
 
-        // Check for overlapping shows at the same venue (excluding current show)
-        List<Show> existingShows = showRepository.findByVenueId(venueId);
+        List<LocalDate> dates;
+        if (request.getDates() != null && !request.getDates().isEmpty()) {
+            dates = request.getDates();
+        } else if (request.getStartDate() != null && request.getEndDate() != null) {
+            if (request.getEndDate().isBefore(request.getStartDate())) {
+                throw new BadRequestException("endDate must not be before startDate");
+            }
+            dates = request.getStartDate().datesUntil(request.getEndDate().plusDays(1))
+                    .filter(date -> request.getDaysOfWeek() == null || request.getDaysOfWeek().isEmpty()
+                            || request.getDaysOfWeek().contains(date.getDayOfWeek()))
+                    .toList();
+        } else {
+            throw new BadRequestException("Either dates or startDate and endDate are required");
+        }
+
+        long occurrences = (long) dates.size() * request.getTimes().size();
+        if (occurrences == 0) {
+            throw new BadRequestException("Recurrence does not produce any shows");
+        }
+        if (occurrences > MAX_BULK_OCCURRENCES) {
+            throw new BadRequestException("Recurrence produces " + occurrences
+                    + " shows; at most " + MAX_BULK_OCCURRENCES + " can be scheduled at once");
+        }
+
+        List<Instant> starts = new ArrayList<>();
+        for (LocalDate date : dates) {
+            for (LocalTime time : request.getTimes()) {
+                starts.add(date.atTime(time).atZone(zone).toInstant());
+            }
+        }
+        return starts.stream().distinct().sorted().toList();
+    }
 
-        for (Show existingShow : existingShows) {
-            if (existingShow.getId().equals(currentShowId)) {
-                continue; // Skip current show
+    /**
+     * Returns the occupied interval overlapping [start, end), or null. Occupied
+     * intervals never overlap each other, so only the neighbours need checking.
+     */
+    private Map.Entry<Instant, OccupiedSlot> findOverlap(
+            TreeMap<Instant, OccupiedSlot> occupied, Instant start, Instant end) {
+        Map.Entry<Instant, OccupiedSlot> before = occupied.floorEntry(start);
+        if (before != null && before.getValue().end().isAfter(start)) {
+            return before;
+        }
+        Map.Entry<Instant, OccupiedSlot> after = occupied.higherEntry(start);
+        if (after != null && after.getKey().isBefore(end)) {
+            return after;
+        }
+        return null;
+    }
+
+    /**
+     * A concurrent insert that slipped past the range check fails the batch on the exclusion constraint
+     */
+    private List<Long> insertShowBatch(Long venueId, Long eventId, List<Instant> starts, Integer durationMinutes) {
+        try {
+            return showRepository.insertBatch(venueId, eventId,
+                    starts.stream().map(Instant::toString).toArray(String[]::new), durationMinutes);
+        } catch (DataIntegrityViolationException e) {
+            String cause = e.getMostSpecificCause().getMessage();
+            if (cause != null && cause.contains(OVERLAP_CONSTRAINT)) {
+                throw new ConflictException("Shows were scheduled concurrently at the same venue; please retry");
             }
+            throw e;
+        }
+    }
 
-            Instant existingStart = existingShow.getStartTimestamp();
-            Instant existingEnd = existingStart.plusSeconds(existingShow.getDurationMinutes() * 60L);
+    private boolean hasOverlappingShows(Long venueId, Instant startTimestamp, Integer durationMinutes,
+            Long excludeShowId) {
+        Instant endTimestamp = startTimestamp.plusSeconds(durationMinutes * 60L);
+        return showRepository.existsOverlappingShow(venueId, startTimestamp, endTimestamp, excludeShowId);
+    }
 
-            // Check if shows overlap
-            if (startTimestamp.isBefore(existingEnd) && endTimestamp.isAfter(existingStart)) {
-                return true;
+    /**
+     * Saves and flushes so a concurrent overlapping insert that slipped past the
+     * pre-check surfaces here as a conflict rather than a failed commit
+     */
+    private Show saveCheckingOverlap(Show show) {
+        try {
+            return showRepository.saveAndFlush(show);
+        } catch (DataIntegrityViolationException e) {
+            String cause = e.getMostSpecificCause().getMessage();
+            if (cause != null && cause.contains(OVERLAP_CONSTRAINT)) {
+                throw new ConflictException("Show overlaps with existing show at the same venue");
             }
+            throw e;
         }
+    }
 
-        return false;
+    /**
+     * Shows cannot be written while their venue or event is queued for deletion
+     */
+    private void rejectIfDeletionPending(Venue venue, Event event) {
+        if (venue.isDeletionPending()) {
+            throw new ConflictException("Venue " + venue.getId() + " is being deleted");
+        }
+        if (event.isDeletionPending()) {
+            throw new ConflictException("Event " + event.getId() + " is being deleted");
+        }
     }
 
     private void validateShowStateTransition(ShowStatus currentStatus, ShowStatus newStatus) {
@@ -306,4 +541,7 @@ public class ShowService {
 
         return emailBody.toString();
     }
-}
\ No newline at end of file
+
+    private record OccupiedSlot(Instant end, Long showId) {
+    }
+}
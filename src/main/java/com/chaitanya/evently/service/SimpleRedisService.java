@@ -1,6 +1,8 @@
 package com.chaitanya.evently.service;
 
 import com.chaitanya.evently.exception.types.InternalServerException;
+import com.chaitanya.evently.jfr.SeatLockEvent;
+import com.chaitanya.evently.logging.LogMarkers;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -42,6 +44,8 @@ public class SimpleRedisService {
 
         // Try to atomically lock all seats
         List<Long> lockedSeats = new ArrayList<>();
+        SeatLockEvent lockEvent = new SeatLockEvent();
+        lockEvent.begin();
         try (Jedis jedis = jedisPool.getResource()) {
             for (Long seatId : seatIds) {
                 String seatLockKey = SEAT_LOCK_PREFIX + seatId;
@@ -51,11 +55,13 @@ public class SimpleRedisService {
                 if (result == null) {
                     // Seat already locked, release previously locked seats
                     log.warn("Seat {} is already locked, releasing previously locked seats", seatId);
+                    lockEvent.conflictSeatId = seatId;
                     releaseSeatLocks(jedis, lockedSeats);
                     return null; // Seat unavailable
                 }
                 lockedSeats.add(seatId);
             }
+            lockEvent.acquired = true;
         } catch (Exception e) {
             log.error("Error during atomic seat locking: {}", e.getMessage());
             // Release any seats that were locked before the error
@@ -65,6 +71,13 @@ public class SimpleRedisService {
                 log.error("Error releasing seats after locking failure: {}", releaseError.getMessage());
             }
             return null;
+        } finally {
+            lockEvent.end();
+            if (lockEvent.shouldCommit()) {
+                lockEvent.showId = showId == null ? 0 : showId;
+                lockEvent.seatCount = seatIds.size();
+                lockEvent.commit();
+            }
         }
 
         // Create reservation data
@@ -79,7 +92,8 @@ public class SimpleRedisService {
         String reservationKey = RESERVATION_PREFIX + reservationId;
         setObject(reservationKey, reservationData, RESERVATION_TTL_SECONDS);
 
-        log.info("Created reservation {} for user {} with {} seats", reservationId, userId, seatIds.size());
+        log.info(LogMarkers.STATE_TRANSITION, "Created reservation {} for user {} with {} seats",
+                reservationId, userId, seatIds.size());
         return reservationId;
     }
 
@@ -140,7 +154,8 @@ public class SimpleRedisService {
             delete(seatLockKey);
         }
 
-        log.info("Released reservation {} and unlocked {} seats", reservationId, reservation.getSeatIds().size());
+        log.info(LogMarkers.STATE_TRANSITION, "Released reservation {} and unlocked {} seats",
+                reservationId, reservation.getSeatIds().size());
     }
 
     /**
@@ -166,7 +181,8 @@ public class SimpleRedisService {
             // Release reservation and seat locks
             releaseReservation(reservationId);
 
-            log.info("Successfully processed booking transaction for reservation {}", reservationId);
+            log.info(LogMarkers.STATE_TRANSITION, "Successfully processed booking transaction for reservation {}",
+                    reservationId);
             return true;
         } catch (Exception e) {
             log.error("Error processing booking transaction: {}", e.getMessage());
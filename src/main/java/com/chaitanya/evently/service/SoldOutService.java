@@ -0,0 +1,204 @@
+package com.chaitanya.evently.service;
+
+import com.chaitanya.evently.model.ShowSalesCounter;
+import com.chaitanya.evently.repository.ShowSalesCounterRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory sold-out flags, so booking attempts for a sold-out show are rejected
+ * before any database or Redis work. Flags are shared through a Redis hash
+ * (show id to venue id) for nodes that start later, and kept in sync over pub/sub.
+ * The hash is never trusted as is: flags are checked against the sales rollup
+ * and venue capacity on startup and periodically, and stale ones are dropped.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SoldOutService {
+
+    private static final String CHANNEL = "evently:booking:sold-out";
+    private static final String SOLD_OUT_KEY = "sold_out_shows";
+
+    private static final String SOLD_OUT = "SOLD_OUT";
+    private static final String AVAILABLE = "AVAILABLE";
+    private static final String VENUE_CHANGED = "VENUE_CHANGED";
+
+    private final ShowSalesCounterRepository showSalesCounterRepository;
+    private final RedisPubSubService redisPubSubService;
+    private final JedisPool jedisPool;
+
+    // Sold-out show id -> venue id, so a capacity change at a venue can clear its shows
+    private final Map<Long, Long> soldOutShows = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void registerSubscriber() {
+        redisPubSubService.subscribe(CHANNEL, this::onMessage);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadSoldOutShows() {
+        reconcile();
+        log.info("Loaded {} sold-out show(s)", soldOutShows.size());
+    }
+
+    /**
+     * Keeps only the shared flags the rollup confirms, on this node and in Redis.
+     * Catches flags left behind by deleted, archived or recreated shows, and
+     * removals whose pub/sub message this node missed.
+     */
+    @Scheduled(fixedDelayString = "${app.sales-counters.reconcile-interval-ms:300000}",
+            initialDelayString = "${app.sales-counters.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        Map<Long, Long> flagged = new HashMap<>();
+        try (Jedis jedis = jedisPool.getResource()) {
+            jedis.hgetAll(SOLD_OUT_KEY).forEach((showId, venueId) -> flagged.put(Long.valueOf(showId),
+                    Long.valueOf(venueId)));
+        } catch (Exception e) {
+            log.warn("Failed to read sold-out flags: {}", e.getMessage());
+            return;
+        }
+
+        Set<Long> confirmed = flagged.isEmpty() ? Set.of()
+                : new HashSet<>(showSalesCounterRepository.findSoldOutShowIds(flagged.keySet()));
+        List<Long> stale = flagged.keySet().stream().filter(showId -> !confirmed.contains(showId)).toList();
+
+        confirmed.forEach(showId -> soldOutShows.put(showId, flagged.get(showId)));
+        if (!stale.isEmpty()) {
+            log.info("Dropping {} stale sold-out flag(s): {}", stale.size(), stale);
+            clearShows(stale);
+        }
+    }
+
+    public boolean isSoldOut(Long showId) {
+        return soldOutShows.containsKey(showId);
+    }
+
+    /**
+     * After the sale commits, flags the show if every seat is now sold
+     */
+    public void checkSoldOutAfterCommit(Long showId, Long venueId, int capacity) {
+        afterCommit(() -> {
+            int sold = showSalesCounterRepository.findById(showId)
+                    .map(ShowSalesCounter::getSeatsSold)
+                    .orElse(0);
+            if (capacity > 0 && sold >= capacity) {
+                markSoldOut(showId, venueId);
+            }
+        });
+    }
+
+    /**
+     * After seats are released for a show, clears its flag on every node
+     */
+    public void markAvailableAfterCommit(Long showId) {
+        afterCommit(() -> {
+            if (!isSoldOut(showId)) {
+                return;
+            }
+            soldOutShows.remove(showId);
+            try (Jedis jedis = jedisPool.getResource()) {
+                jedis.hdel(SOLD_OUT_KEY, String.valueOf(showId));
+            } catch (Exception e) {
+                log.warn("Failed to clear sold-out flag for show {}: {}", showId, e.getMessage());
+            }
+            redisPubSubService.publish(CHANNEL, AVAILABLE + ":" + showId);
+            log.info("Show {} is available again", showId);
+        });
+    }
+
+    /**
+     * After shows are deleted or archived, clears their flags on every node
+     */
+    public void showsRemovedAfterCommit(Collection<Long> showIds) {
+        if (showIds.isEmpty()) {
+            return;
+        }
+        List<Long> removed = List.copyOf(showIds);
+        afterCommit(() -> clearShows(removed));
+    }
+
+    /**
+     * After a venue's seat map changes, clears the flags of all its shows on every node
+     */
+    public void venueCapacityChangedAfterCommit(Long venueId) {
+        afterCommit(() -> {
+            clearVenue(venueId);
+            try (Jedis jedis = jedisPool.getResource()) {
+                jedis.hgetAll(SOLD_OUT_KEY).forEach((showId, showVenueId) -> {
+                    if (showVenueId.equals(String.valueOf(venueId))) {
+                        jedis.hdel(SOLD_OUT_KEY, showId);
+                    }
+                });
+            } catch (Exception e) {
+                log.warn("Failed to clear sold-out flags for venue {}: {}", venueId, e.getMessage());
+            }
+            redisPubSubService.publish(CHANNEL, VENUE_CHANGED + ":" + venueId);
+        });
+    }
+
+    private void markSoldOut(Long showId, Long venueId) {
+        soldOutShows.put(showId, venueId);
+        try (Jedis jedis = jedisPool.getResource()) {
+            jedis.hset(SOLD_OUT_KEY, String.valueOf(showId), String.valueOf(venueId));
+        } catch (Exception e) {
+            log.warn("Failed to persist sold-out flag for show {}: {}", showId, e.getMessage());
+        }
+        redisPubSubService.publish(CHANNEL, SOLD_OUT + ":" + showId + ":" + venueId);
+        log.info("Show {} is sold out", showId);
+    }
+
+    private void clearShows(Collection<Long> showIds) {
+        soldOutShows.keySet().removeAll(showIds);
+        try (Jedis jedis = jedisPool.getResource()) {
+            jedis.hdel(SOLD_OUT_KEY, showIds.stream().map(String::valueOf).toArray(String[]::new));
+        } catch (Exception e) {
+            log.warn("Failed to clear sold-out flags for shows {}: {}", showIds, e.getMessage());
+        }
+        showIds.forEach(showId -> redisPubSubService.publish(CHANNEL, AVAILABLE + ":" + showId));
+    }
+
+    private void onMessage(String message) {
+        String[] parts = message.split(":");
+        switch (parts[0]) {
+            case SOLD_OUT -> soldOutShows.put(Long.valueOf(parts[1]), Long.valueOf(parts[2]));
+            case AVAILABLE -> soldOutShows.remove(Long.valueOf(parts[1]));
+            case VENUE_CHANGED -> clearVenue(Long.valueOf(parts[1]));
+            default -> log.warn("Ignoring unknown sold-out message: {}", message);
+        }
+    }
+
+    private void clearVenue(Long venueId) {
+        soldOutShows.values().removeIf(venueId::equals);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
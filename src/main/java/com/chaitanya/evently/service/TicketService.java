@@ -25,7 +25,7 @@ public class TicketService {
 
     @Transactional(readOnly = true)
     public Ticket getTicketById(Long id) {
-        Ticket ticket = ticketRepository.findById(id)
+        Ticket ticket = ticketRepository.findWithDetailsById(id)
                 .orElseThrow(() -> new NotFoundException("Ticket not found with id: " + id));
         return ticket;
     }
@@ -42,7 +42,7 @@ public class TicketService {
     @Transactional(readOnly = true)
     public PaginationResponse<Ticket> getAllTickets(PaginationRequest paginationRequest, String baseUrl) {
         Pageable pageable = createPageable(paginationRequest);
-        Page<Ticket> ticketPage = ticketRepository.findAll(pageable);
+        Page<Ticket> ticketPage = ticketRepository.findAllWithDetails(pageable);
 
         return PaginationResponse.fromPage(ticketPage, baseUrl);
     }
@@ -1,20 +1,35 @@
 package com.chaitanya.evently.service;
 
+import com.chaitanya.evently.dto.job.DeletionJobResponse;
 import com.chaitanya.evently.dto.seat.map.SeatMapRequest;
 import com.chaitanya.evently.dto.seat.map.SeatMapResponse;
+import com.chaitanya.evently.dto.venue.SeatImportResponse;
 import com.chaitanya.evently.dto.venue.VenueRequest;
+import com.chaitanya.evently.dto.venue.VenueResponse;
+import com.chaitanya.evently.exception.types.BadRequestException;
 import com.chaitanya.evently.exception.types.ConflictException;
 import com.chaitanya.evently.exception.types.NotFoundException;
+import com.chaitanya.evently.model.DeletionJob;
 import com.chaitanya.evently.model.Seat;
 import com.chaitanya.evently.model.Venue;
 import com.chaitanya.evently.repository.SeatRepository;
-import com.chaitanya.evently.repository.ShowRepository;
 import com.chaitanya.evently.repository.VenueRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.postgresql.PGConnection;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -25,9 +40,66 @@ import java.util.stream.Collectors;
 @Slf4j
 public class VenueService {
 
+    private static final int MAX_IMPORT_PROBLEMS = 10;
+
+    private static final String CREATE_IMPORT_STAGING = """
+            CREATE TEMP TABLE seat_import_staging (
+                -- COPY inserts one row per CSV record, in order, whatever lines quoted fields span
+                record_no BIGINT GENERATED ALWAYS AS IDENTITY,
+                section TEXT,
+                "row" TEXT,
+                seat_number TEXT
+            ) ON COMMIT DROP
+            """;
+
+    private static final String FIND_INVALID_IMPORT_ROWS = """
+            SELECT record_no, problem FROM (
+                SELECT record_no, CASE
+                    WHEN NULLIF(btrim(section), '') IS NULL THEN 'section is required'
+                    WHEN NULLIF(btrim("row"), '') IS NULL THEN 'row is required'
+                    WHEN NULLIF(btrim(seat_number), '') IS NULL THEN 'seat_number is required'
+                    WHEN length(btrim(section)) > 50 THEN 'section exceeds 50 characters'
+                    WHEN length(btrim("row")) > 10 THEN 'row exceeds 10 characters'
+                    WHEN length(btrim(seat_number)) > 10 THEN 'seat_number exceeds 10 characters'
+                END AS problem
+                FROM seat_import_staging
+            ) checked
+            WHERE problem IS NOT NULL
+            ORDER BY record_no
+            LIMIT ?
+            """;
+
+    private static final String FIND_DUPLICATE_IMPORT_ROWS = """
+            SELECT MAX(record_no) AS record_no,
+                   'duplicate seat ' || btrim(section) || '-' || btrim("row") || '-' || btrim(seat_number) AS problem
+            FROM seat_import_staging
+            GROUP BY btrim(section), btrim("row"), btrim(seat_number)
+            HAVING COUNT(*) > 1
+            ORDER BY 1
+            LIMIT ?
+            """;
+
+    private static final String MERGE_IMPORTED_SEATS = """
+            WITH inserted AS (
+                INSERT INTO seats (venue_id, section, "row", seat_number)
+                SELECT ?, btrim(section), btrim("row"), btrim(seat_number)
+                FROM seat_import_staging
+                ORDER BY record_no
+                ON CONFLICT ON CONSTRAINT uk_seat_unique DO NOTHING
+                RETURNING 1
+            )
+            SELECT (SELECT COUNT(*) FROM seat_import_staging) AS rows_read,
+                   (SELECT COUNT(*) FROM inserted) AS inserted,
+                   (SELECT COUNT(*) FROM seats WHERE venue_id = ?) + (SELECT COUNT(*) FROM inserted) AS capacity
+            """;
+
     private final VenueRepository venueRepository;
     private final SeatRepository seatRepository;
-    private final ShowRepository showRepository;
+    private final EntityCacheInvalidationService entityCacheInvalidationService;
+    private final CatalogCacheService catalogCacheService;
+    private final SoldOutService soldOutService;
+    private final EntityManager entityManager;
+    private final DeletionJobService deletionJobService;
 
     @Transactional(readOnly = true)
     public Venue getVenueById(Long id) {
@@ -48,6 +120,18 @@ public class VenueService {
         return venueRepository.findAll();
     }
 
+    /**
+     * User-facing venue list served from the catalog near-cache
+     */
+    public List<VenueResponse> getCatalogVenues() {
+        return catalogCacheService.get(CatalogCacheService.VENUES, "list",
+                new TypeReference<List<VenueResponse>>() {
+                },
+                () -> venueRepository.findAll().stream()
+                        .map(VenueResponse::from)
+                        .collect(Collectors.toList()));
+    }
+
     @Transactional
     public Venue createVenue(VenueRequest request) {
         if (venueRepository.existsByName(request.getName())) {
@@ -62,6 +146,7 @@ public class VenueService {
 
         Venue savedVenue = venueRepository.save(venue);
         log.info("Created venue with id: {} and name: {}", savedVenue.getId(), savedVenue.getName());
+        catalogCacheService.invalidateAfterCommit(CatalogCacheService.VENUES);
 
         return savedVenue;
     }
@@ -82,28 +167,20 @@ public class VenueService {
 
         Venue updatedVenue = venueRepository.save(venue);
         log.info("Updated venue with id: {} and name: {}", updatedVenue.getId(), updatedVenue.getName());
+        entityCacheInvalidationService.publishAfterCommit(Venue.class, id);
+        catalogCacheService.invalidateAfterCommit(CatalogCacheService.VENUES, CatalogCacheService.SHOWS);
 
         return updatedVenue;
     }
 
-    @Transactional
-    public void deleteVenue(Long id) {
-        Venue venue = venueRepository.findById(id)
-                .orElseThrow(() -> new NotFoundException("Venue not found with id: " + id));
-
-        // Delete all shows first
-        showRepository.deleteByVenueId(id);
-
-        // Delete all seats first (this will trigger cascade delete)
-        seatRepository.deleteByVenueId(id);
-
-        // Update capacity to 0
-        venue.setCapacity(0);
-        venueRepository.save(venue);
-
-        venueRepository.delete(venue);
-        log.info("Deleted venue with id: {} and name: {} along with all associated shows and seats", venue.getId(),
-                venue.getName());
+    /**
+     * Queues the venue and everything under it for chunked background deletion
+     */
+    public DeletionJobResponse deleteVenue(Long id) {
+        if (!venueRepository.existsById(id)) {
+            throw new NotFoundException("Venue not found with id: " + id);
+        }
+        return deletionJobService.submit(DeletionJob.TargetType.VENUE, id);
     }
 
     @Transactional(readOnly = true)
@@ -111,8 +188,10 @@ public class VenueService {
         Venue venue = venueRepository.findById(venueId)
                 .orElseThrow(() -> new NotFoundException("Venue not found with id: " + venueId));
 
-        List<Seat> seats = seatRepository.findByVenueIdOrdered(venueId);
+        return toSeatMapResponse(venue, seatRepository.findByVenueIdOrdered(venueId));
+    }
 
+    private SeatMapResponse toSeatMapResponse(Venue venue, List<Seat> seats) {
         // Group seats by section and row
         Map<String, Map<String, List<Seat>>> groupedSeats = seats.stream()
                 .collect(Collectors.groupingBy(
@@ -147,55 +226,138 @@ public class VenueService {
 
     @Transactional
     public SeatMapResponse createSeatMap(Long venueId, SeatMapRequest request) {
-        Venue venue = venueRepository.findById(venueId)
+        Venue venue = venueRepository.findByIdForUpdate(venueId)
                 .orElseThrow(() -> new NotFoundException("Venue not found with id: " + venueId));
 
-        // Get current seat count for capacity calculation
-        long currentSeatCount = seatRepository.countByVenueId(venueId);
-
-        // Create new seats based on the hierarchical structure
-        List<Seat> seats = new ArrayList<>();
-
+        // Flatten the hierarchy into parallel arrays; the database expands each row into seats
+        List<String> sections = new ArrayList<>();
+        List<String> rowIds = new ArrayList<>();
+        List<Integer> seatCounts = new ArrayList<>();
         for (SeatMapRequest.Section section : request.getSections()) {
             for (SeatMapRequest.Row row : section.getRows()) {
-                for (int i = 1; i <= row.getSeatCount(); i++) {
-                    String seatNumber = String.valueOf(i);
-
-                    // Check for duplicate seats - if exists, skip this seat
-                    if (seatRepository.existsByVenueIdAndSectionAndRowAndSeatNumber(
-                            venueId, section.getSectionId(), row.getRowId(), seatNumber)) {
-                        log.warn("Seat already exists, skipping: {} - {} - {}",
-                                section.getSectionId(), row.getRowId(), seatNumber);
-                        continue; // Skip this seat instead of throwing exception
-                    }
+                sections.add(section.getSectionId());
+                rowIds.add(row.getRowId());
+                seatCounts.add(row.getSeatCount());
+            }
+        }
 
-                    Seat seat = Seat.builder()
-                            .venue(venue)
-                            .section(section.getSectionId())
-                            .row(row.getRowId())
-                            .seatNumber(seatNumber)
-                            .build();
-                    seats.add(seat);
+        // Existing seats are skipped by ON CONFLICT rather than checked one by one
+        SeatRepository.SeatInsertResult result = seatRepository.bulkInsertRows(venueId,
+                sections.toArray(String[]::new), rowIds.toArray(String[]::new), seatCounts.toArray(Integer[]::new));
+
+        applySeatsAdded(venue, result.getInserted(), result.getCapacity());
+
+        // Return the seat map in the same hierarchical structure. The insert bypassed Hibernate, so the cached
+        // seat query may predate it, and seats read here are uncommitted and must not be cached.
+        return toSeatMapResponse(venue, seatRepository.findByVenueIdOrderedUncached(venueId));
+    }
+
+    /**
+     * Imports seats from a CSV of section,row,seat_number lines. The body is
+     * streamed into a staging table with COPY, validated there, then merged into
+     * seats in one statement; existing seats are skipped.
+     */
+    @Transactional
+    public SeatImportResponse importSeats(Long venueId, InputStream csv, boolean header) {
+        Venue venue = venueRepository.findByIdForUpdate(venueId)
+                .orElseThrow(() -> new NotFoundException("Venue not found with id: " + venueId));
+
+        long[] result = entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_IMPORT_STAGING);
+            }
+
+            copyIntoStaging(connection, csv, header);
+            rejectInvalidRows(connection);
+
+            try (PreparedStatement merge = connection.prepareStatement(MERGE_IMPORTED_SEATS)) {
+                merge.setLong(1, venueId);
+                merge.setLong(2, venueId);
+                try (ResultSet rs = merge.executeQuery()) {
+                    rs.next();
+                    return new long[] { rs.getLong("rows_read"), rs.getLong("inserted"), rs.getLong("capacity") };
                 }
             }
+        });
+
+        long rowsRead = result[0];
+        long inserted = result[1];
+        long capacity = result[2];
+        if (rowsRead == 0) {
+            throw new BadRequestException("Seat import is empty");
         }
 
-        // Only save seats if there are new ones to create
-        if (!seats.isEmpty()) {
-            List<Seat> savedSeats = seatRepository.saveAll(seats);
-            log.info("Created {} new seats for venue with id: {}", savedSeats.size(), venueId);
-
-            // Update venue capacity by adding new seats to existing count
-            long newTotalCapacity = currentSeatCount + savedSeats.size();
-            venue.setCapacity((int) newTotalCapacity);
-            venueRepository.save(venue);
-            log.info("Updated venue capacity to {} for venue with id: {}", newTotalCapacity, venueId);
-        } else {
+        log.info("Imported {} rows for venue with id: {}", rowsRead, venueId);
+        applySeatsAdded(venue, inserted, capacity);
+
+        return SeatImportResponse.builder()
+                .venueId(venueId)
+                .rowsRead(rowsRead)
+                .seatsCreated(inserted)
+                .seatsSkipped(rowsRead - inserted)
+                .totalCapacity(capacity)
+                .build();
+    }
+
+    private void copyIntoStaging(Connection connection, InputStream csv, boolean header) {
+        String copy = "COPY seat_import_staging (section, \"row\", seat_number) FROM STDIN WITH (FORMAT csv, HEADER "
+                + header + ")";
+        try {
+            connection.unwrap(PGConnection.class).getCopyAPI().copyIn(copy, csv);
+        } catch (SQLException e) {
+            throw new BadRequestException("Invalid seat import: " + e.getMessage());
+        } catch (IOException e) {
+            throw new BadRequestException("Failed to read seat import: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reports problems by CSV record number, counting data records only (not the
+     * header), since a quoted field may span several physical lines
+     */
+    private void rejectInvalidRows(Connection connection) throws SQLException {
+        List<String> problems = new ArrayList<>();
+        for (String query : List.of(FIND_INVALID_IMPORT_ROWS, FIND_DUPLICATE_IMPORT_ROWS)) {
+            try (PreparedStatement statement = connection.prepareStatement(query)) {
+                statement.setInt(1, MAX_IMPORT_PROBLEMS);
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        problems.add("record " + rs.getLong("record_no") + ": " + rs.getString("problem"));
+                    }
+                }
+            }
+        }
+
+        if (!problems.isEmpty()) {
+            throw new BadRequestException("Invalid seat import: " + String.join("; ", problems));
+        }
+    }
+
+    /**
+     * Updates capacity and invalidates caches once seats were added outside Hibernate
+     */
+    private void applySeatsAdded(Venue venue, long inserted, long capacity) {
+        Long venueId = venue.getId();
+        // Only update capacity if there are new seats
+        if (inserted == 0) {
             log.info("No new seats to create for venue with id: {} (all requested seats already exist)", venueId);
+            return;
         }
+        log.info("Created {} new seats for venue with id: {}", inserted, venueId);
+
+        // Hibernate did not see the native write, so drop cached seat queries now for reads later in this
+        // transaction; the after-commit eviction below covers reads that re-cached the old list meanwhile
+        entityManager.unwrap(Session.class).getSessionFactory().getCache()
+                .evictQueryRegion(SeatRepository.SEAT_QUERY_REGION);
+
+        venue.setCapacity((int) capacity);
+        venueRepository.save(venue);
+        log.info("Updated venue capacity to {} for venue with id: {}", capacity, venueId);
 
-        // Return the seat map in the same hierarchical structure
-        return getSeatMap(venueId);
+        entityCacheInvalidationService.publishAfterCommit(Venue.class, venueId);
+        entityCacheInvalidationService.evictAndPublishAfterCommit(Seat.class, null);
+        catalogCacheService.invalidateAfterCommit(CatalogCacheService.VENUES, CatalogCacheService.SHOWS);
+        soldOutService.venueCapacityChangedAfterCommit(venueId);
     }
 
     /**
@@ -211,5 +373,8 @@ public class VenueService {
         venueRepository.save(venue);
 
         log.info("Recalculated venue capacity to {} for venue with id: {}", seatCount, venueId);
+        entityCacheInvalidationService.publishAfterCommit(Venue.class, venueId);
+        catalogCacheService.invalidateAfterCommit(CatalogCacheService.VENUES, CatalogCacheService.SHOWS);
+        soldOutService.venueCapacityChangedAfterCommit(venueId);
     }
 }
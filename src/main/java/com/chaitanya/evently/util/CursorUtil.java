@@ -0,0 +1,38 @@
+package com.chaitanya.evently.util;
+
+import com.chaitanya.evently.exception.types.BadRequestException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Encodes and decodes opaque keyset cursors over (createdAt, id).
+ */
+public class CursorUtil {
+
+    private static final String SEPARATOR = "_";
+
+    public static String encode(Instant createdAt, Long id) {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetScrollPosition decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, 2);
+
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put("createdAt", Instant.parse(parts[0]));
+            keys.put("id", Long.parseLong(parts[1]));
+            return ScrollPosition.forward(keys);
+        } catch (Exception e) {
+            throw new BadRequestException("Invalid pagination cursor");
+        }
+    }
+}
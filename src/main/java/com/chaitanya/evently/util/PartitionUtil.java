@@ -0,0 +1,23 @@
+package com.chaitanya.evently.util;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Lower bounds on created_at for queries against the monthly partitioned
+ * bookings, tickets, payments and refunds tables, so the planner can skip
+ * older partitions.
+ */
+public class PartitionUtil {
+
+    // Rows are stamped by whichever node wrote them; allow for clock skew between nodes
+    private static final Duration CLOCK_SKEW = Duration.ofMinutes(5);
+
+    /**
+     * Earliest created_at a row can have if its parent (show or booking) was
+     * created at the given time
+     */
+    public static Instant createdSince(Instant parentCreatedAt) {
+        return parentCreatedAt == null ? Instant.EPOCH : parentCreatedAt.minus(CLOCK_SKEW);
+    }
+}
@@ -0,0 +1,11 @@
+-- Indexes backing the joined bookings-by-venue / bookings-by-event queries and their keyset pagination
+-- Lets the planner resolve venue/event -> show ids from the index alone
+CREATE INDEX idx_shows_venue_id_id ON shows(venue_id, id);
+
+CREATE INDEX idx_shows_event_id_id ON shows(event_id, id);
+
+-- Keyset order (created_at, id) within a show, so each page is a bounded index range scan
+CREATE INDEX idx_bookings_show_created_at_id ON bookings(show_id, created_at, id);
+
+-- Superseded by idx_bookings_show_created_at_id (same leading columns)
+DROP INDEX IF EXISTS idx_bookings_show_created_at;
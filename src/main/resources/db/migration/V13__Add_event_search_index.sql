@@ -0,0 +1,19 @@
+-- Full-text and typo-tolerant search over events
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Weighted document: title ranks above category, which ranks above description
+ALTER TABLE
+    events
+ADD
+    COLUMN search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(category, '')), 'B') ||
+        setweight(to_tsvector('english', coalesce(description, '')), 'C')
+    ) STORED;
+
+CREATE INDEX idx_events_search_vector ON events USING GIN (search_vector);
+
+-- Trigram indexes catch misspellings and partial words the text search misses
+CREATE INDEX idx_events_title_trgm ON events USING GIN (title gin_trgm_ops);
+
+CREATE INDEX idx_events_category_trgm ON events USING GIN (category gin_trgm_ops);
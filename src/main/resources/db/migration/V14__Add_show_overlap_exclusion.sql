@@ -0,0 +1,77 @@
+-- Database-enforced overlap detection for shows at the same venue
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- [start, end) range of each show. Maintained by trigger because timestamptz + interval
+-- is not immutable and therefore cannot back a generated column.
+ALTER TABLE
+    shows
+ADD
+    COLUMN time_range tstzrange;
+
+CREATE OR REPLACE FUNCTION shows_set_time_range() RETURNS TRIGGER AS $$
+BEGIN
+    NEW.time_range := tstzrange(
+        NEW.start_timestamp,
+        NEW.start_timestamp + make_interval(mins => NEW.duration_minutes),
+        '[)'
+    );
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_shows_set_time_range BEFORE
+INSERT
+    OR
+UPDATE
+    OF start_timestamp,
+    duration_minutes ON shows FOR EACH ROW EXECUTE FUNCTION shows_set_time_range();
+
+UPDATE
+    shows
+SET
+    time_range = tstzrange(
+        start_timestamp,
+        start_timestamp + make_interval(mins => duration_minutes),
+        '[)'
+    );
+
+ALTER TABLE
+    shows
+ALTER COLUMN
+    time_range
+SET
+    NOT NULL;
+
+-- Overlap checks were not enforced before, so fail with a clear message if existing data conflicts
+DO $$
+DECLARE
+    conflicts BIGINT;
+BEGIN
+    SELECT
+        count(*) INTO conflicts
+    FROM
+        shows a
+        JOIN shows b ON a.venue_id = b.venue_id
+        AND a.id < b.id
+        AND a.time_range && b.time_range
+    WHERE
+        a.status <> 'CANCELLED'
+        AND b.status <> 'CANCELLED';
+
+    IF conflicts > 0 THEN
+        RAISE EXCEPTION 'Cannot add show overlap constraint: % overlapping show pair(s) exist. Cancel or reschedule them first.', conflicts;
+    END IF;
+END;
+$$;
+
+-- No two non-cancelled shows may overlap at a venue. The GiST index behind this constraint
+-- also serves the overlap lookup in ShowRepository.
+ALTER TABLE
+    shows
+ADD
+    CONSTRAINT excl_shows_venue_time_overlap EXCLUDE USING gist (
+        venue_id WITH =,
+        time_range WITH &&
+    )
+WHERE
+    (status <> 'CANCELLED');
@@ -0,0 +1,48 @@
+-- Per-show sales rollup, maintained incrementally on every booking state change
+CREATE TABLE show_sales_counters (
+    show_id BIGINT PRIMARY KEY,
+    seats_sold INTEGER NOT NULL DEFAULT 0,
+    revenue DECIMAL(12, 2) NOT NULL DEFAULT 0,
+    cancellations INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+ALTER TABLE
+    show_sales_counters
+ADD
+    CONSTRAINT fk_show_sales_counters_show_id FOREIGN KEY (show_id) REFERENCES shows(id) ON DELETE CASCADE;
+
+-- Backfill from existing bookings and tickets
+INSERT INTO
+    show_sales_counters (show_id, seats_sold, revenue, cancellations)
+SELECT
+    s.id,
+    (
+        SELECT
+            count(*)
+        FROM
+            tickets t
+            JOIN bookings b ON b.id = t.booking_id
+        WHERE
+            b.show_id = s.id
+    ),
+    (
+        SELECT
+            coalesce(sum(b.total_amount), 0)
+        FROM
+            bookings b
+        WHERE
+            b.show_id = s.id
+            AND b.status = 'CONFIRMED'
+    ),
+    (
+        SELECT
+            count(*)
+        FROM
+            bookings b
+        WHERE
+            b.show_id = s.id
+            AND b.status = 'CANCELLED'
+    )
+FROM
+    shows s;
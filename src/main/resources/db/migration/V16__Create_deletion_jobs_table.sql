@@ -0,0 +1,39 @@
+-- Background deletion jobs for venues and events, deleted in bounded chunks
+CREATE TABLE deletion_jobs (
+    id BIGSERIAL PRIMARY KEY,
+    target_type VARCHAR(20) NOT NULL,
+    target_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    current_step VARCHAR(50),
+    rows_deleted BIGINT NOT NULL DEFAULT 0,
+    error VARCHAR(1000),
+    started_at TIMESTAMP WITH TIME ZONE,
+    finished_at TIMESTAMP WITH TIME ZONE,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Finds the active job for a target and stale jobs to resume
+CREATE INDEX idx_deletion_jobs_target ON deletion_jobs(target_type, target_id, status);
+
+CREATE INDEX idx_deletion_jobs_status_updated_at ON deletion_jobs(status, updated_at);
+
+ALTER TABLE
+    deletion_jobs
+ADD
+    CONSTRAINT chk_deletion_jobs_target_type CHECK (target_type IN ('VENUE', 'EVENT'));
+
+ALTER TABLE
+    deletion_jobs
+ADD
+    CONSTRAINT chk_deletion_jobs_status CHECK (
+        status IN ('PENDING', 'RUNNING', 'COMPLETED', 'FAILED')
+    );
+
+COMMENT ON TABLE deletion_jobs IS 'Tracks chunked background deletion of venues and events';
+
+COMMENT ON COLUMN deletion_jobs.current_step IS 'Table currently being deleted from';
+
+COMMENT ON COLUMN deletion_jobs.rows_deleted IS 'Rows deleted so far across all tables';
+
+COMMENT ON COLUMN deletion_jobs.updated_at IS 'Heartbeat; bumped after every chunk so stale jobs can be resumed';
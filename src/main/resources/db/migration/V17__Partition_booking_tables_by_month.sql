@@ -0,0 +1,274 @@
+-- Range-partition bookings, tickets, payments and refunds by created_at month.
+-- Old months stop receiving inserts, so their indexes stay compact, and queries
+-- bounded on created_at only touch the partitions they need.
+--
+-- Postgres requires the partition key in every unique constraint, so primary
+-- keys become (id, created_at) and foreign keys pointing at these tables
+-- (tickets/payments/refunds -> bookings, refunds -> payments) cannot exist.
+-- Their ON DELETE CASCADE behaviour is kept with AFTER DELETE triggers below.
+--
+-- Creates the monthly partition of a table covering the given date, if missing.
+-- Serialized with an advisory lock so concurrent nodes do not race on DDL.
+CREATE OR REPLACE FUNCTION create_monthly_partition(parent_table TEXT, month_date DATE)
+RETURNS VOID AS $$
+DECLARE
+    month_start DATE := date_trunc('month', month_date)::DATE;
+    partition_name TEXT := parent_table || '_p' || to_char(month_start, 'YYYYMM');
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('create_monthly_partition'));
+    IF to_regclass(partition_name) IS NULL THEN
+        EXECUTE format(
+            'CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+            partition_name,
+            parent_table,
+            month_start,
+            (month_start + INTERVAL '1 month')::DATE
+        );
+    END IF;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Makes sure every partitioned booking table has partitions from this month
+-- through months_ahead months in the future. Called on startup and daily.
+CREATE OR REPLACE FUNCTION ensure_monthly_partitions(months_ahead INTEGER)
+RETURNS VOID AS $$
+DECLARE
+    parent_table TEXT;
+    month_offset INTEGER;
+BEGIN
+    FOREACH parent_table IN ARRAY ARRAY['bookings', 'tickets', 'payments', 'refunds'] LOOP
+        FOR month_offset IN 0..months_ahead LOOP
+            PERFORM create_monthly_partition(
+                parent_table,
+                (date_trunc('month', CURRENT_DATE) + make_interval(months => month_offset))::DATE
+            );
+        END LOOP;
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 1) Move the existing tables aside, keeping their id sequences
+ALTER SEQUENCE bookings_id_seq OWNED BY NONE;
+ALTER SEQUENCE tickets_id_seq OWNED BY NONE;
+ALTER SEQUENCE payments_id_seq OWNED BY NONE;
+ALTER SEQUENCE refunds_id_seq OWNED BY NONE;
+
+ALTER TABLE bookings RENAME TO bookings_unpartitioned;
+ALTER TABLE tickets RENAME TO tickets_unpartitioned;
+ALTER TABLE payments RENAME TO payments_unpartitioned;
+ALTER TABLE refunds RENAME TO refunds_unpartitioned;
+
+-- 2) Partitioned replacements with the same columns
+CREATE TABLE bookings (
+    id BIGINT NOT NULL DEFAULT nextval('bookings_id_seq'),
+    user_id BIGINT NOT NULL,
+    show_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'CONFIRMED',
+    total_amount DECIMAL(10, 2) NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_bookings PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE tickets (
+    id BIGINT NOT NULL DEFAULT nextval('tickets_id_seq'),
+    booking_id BIGINT NOT NULL,
+    seat_id BIGINT NOT NULL,
+    price DECIMAL(10, 2) NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_tickets PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE payments (
+    id BIGINT NOT NULL DEFAULT nextval('payments_id_seq'),
+    booking_id BIGINT NOT NULL,
+    amount DECIMAL(10, 2) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_payments PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE refunds (
+    id BIGINT NOT NULL DEFAULT nextval('refunds_id_seq'),
+    payment_id BIGINT NOT NULL,
+    booking_id BIGINT NOT NULL,
+    amount DECIMAL(10, 2) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'SUCCESS',
+    processed_at TIMESTAMP WITH TIME ZONE,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_refunds PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE bookings_id_seq OWNED BY bookings.id;
+ALTER SEQUENCE tickets_id_seq OWNED BY tickets.id;
+ALTER SEQUENCE payments_id_seq OWNED BY payments.id;
+ALTER SEQUENCE refunds_id_seq OWNED BY refunds.id;
+
+-- Catch-all so a missed partition never rejects a booking; the maintenance job keeps it empty
+CREATE TABLE bookings_default PARTITION OF bookings DEFAULT;
+CREATE TABLE tickets_default PARTITION OF tickets DEFAULT;
+CREATE TABLE payments_default PARTITION OF payments DEFAULT;
+CREATE TABLE refunds_default PARTITION OF refunds DEFAULT;
+
+-- 3) Monthly partitions for all existing data plus the next three months
+DO $$
+DECLARE
+    oldest DATE;
+    month_date DATE;
+BEGIN
+    SELECT LEAST(
+        (SELECT MIN(created_at) FROM bookings_unpartitioned),
+        (SELECT MIN(created_at) FROM tickets_unpartitioned),
+        (SELECT MIN(created_at) FROM payments_unpartitioned),
+        (SELECT MIN(created_at) FROM refunds_unpartitioned)
+    )::DATE INTO oldest;
+
+    month_date := date_trunc('month', COALESCE(oldest, CURRENT_DATE))::DATE;
+    WHILE month_date < date_trunc('month', CURRENT_DATE)::DATE LOOP
+        PERFORM create_monthly_partition('bookings', month_date);
+        PERFORM create_monthly_partition('tickets', month_date);
+        PERFORM create_monthly_partition('payments', month_date);
+        PERFORM create_monthly_partition('refunds', month_date);
+        month_date := (month_date + INTERVAL '1 month')::DATE;
+    END LOOP;
+
+    PERFORM ensure_monthly_partitions(3);
+END;
+$$;
+
+-- 4) Copy the data across and drop the old tables (and the foreign keys between them)
+INSERT INTO bookings SELECT * FROM bookings_unpartitioned;
+INSERT INTO tickets SELECT * FROM tickets_unpartitioned;
+INSERT INTO payments SELECT * FROM payments_unpartitioned;
+INSERT INTO refunds SELECT * FROM refunds_unpartitioned;
+
+DROP TABLE refunds_unpartitioned;
+DROP TABLE payments_unpartitioned;
+DROP TABLE tickets_unpartitioned;
+DROP TABLE bookings_unpartitioned;
+
+-- 5) Indexes, created on the parents so every partition gets them
+CREATE INDEX idx_bookings_user_id ON bookings(user_id);
+CREATE INDEX idx_bookings_show_id ON bookings(show_id);
+CREATE INDEX idx_bookings_status ON bookings(status);
+CREATE INDEX idx_bookings_total_amount ON bookings(total_amount);
+CREATE INDEX idx_bookings_created_at ON bookings(created_at);
+CREATE INDEX idx_bookings_updated_at ON bookings(updated_at);
+CREATE INDEX idx_bookings_user_status ON bookings(user_id, status);
+CREATE INDEX idx_bookings_show_status ON bookings(show_id, status);
+CREATE INDEX idx_bookings_user_created_at ON bookings(user_id, created_at);
+CREATE INDEX idx_bookings_status_created_at ON bookings(status, created_at);
+CREATE INDEX idx_bookings_show_created_at_id ON bookings(show_id, created_at, id);
+
+CREATE INDEX idx_tickets_booking_id ON tickets(booking_id);
+CREATE INDEX idx_tickets_seat_id ON tickets(seat_id);
+CREATE INDEX idx_tickets_price ON tickets(price);
+CREATE INDEX idx_tickets_created_at ON tickets(created_at);
+CREATE INDEX idx_tickets_updated_at ON tickets(updated_at);
+CREATE INDEX idx_tickets_booking_created_at ON tickets(booking_id, created_at);
+
+CREATE INDEX idx_payments_booking_id ON payments(booking_id);
+CREATE INDEX idx_payments_amount ON payments(amount);
+CREATE INDEX idx_payments_status ON payments(status);
+CREATE INDEX idx_payments_created_at ON payments(created_at);
+CREATE INDEX idx_payments_updated_at ON payments(updated_at);
+CREATE INDEX idx_payments_booking_status ON payments(booking_id, status);
+CREATE INDEX idx_payments_status_created_at ON payments(status, created_at);
+CREATE INDEX idx_payments_booking_created_at ON payments(booking_id, created_at);
+
+CREATE INDEX idx_refunds_payment_id ON refunds(payment_id);
+CREATE INDEX idx_refunds_booking_id ON refunds(booking_id);
+CREATE INDEX idx_refunds_status ON refunds(status);
+CREATE INDEX idx_refunds_amount ON refunds(amount);
+CREATE INDEX idx_refunds_processed_at ON refunds(processed_at);
+CREATE INDEX idx_refunds_created_at ON refunds(created_at);
+CREATE INDEX idx_refunds_payment_status ON refunds(payment_id, status);
+CREATE INDEX idx_refunds_booking_status ON refunds(booking_id, status);
+CREATE INDEX idx_refunds_status_created_at ON refunds(status, created_at);
+
+-- 6) Constraints. References to non-partitioned tables are still real foreign keys.
+ALTER TABLE
+    bookings
+ADD
+    CONSTRAINT fk_bookings_user_id FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE;
+
+ALTER TABLE
+    bookings
+ADD
+    CONSTRAINT fk_bookings_show_id FOREIGN KEY (show_id) REFERENCES shows(id) ON DELETE CASCADE;
+
+ALTER TABLE
+    bookings
+ADD
+    CONSTRAINT chk_bookings_status CHECK (
+        status IN ('CONFIRMED', 'CANCELLED', 'WAITLISTED')
+    );
+
+ALTER TABLE
+    bookings
+ADD
+    CONSTRAINT chk_bookings_total_amount CHECK (total_amount >= 0);
+
+ALTER TABLE
+    tickets
+ADD
+    CONSTRAINT fk_tickets_seat_id FOREIGN KEY (seat_id) REFERENCES seats(id) ON DELETE CASCADE;
+
+ALTER TABLE
+    tickets
+ADD
+    CONSTRAINT chk_tickets_price CHECK (price >= 0);
+
+ALTER TABLE
+    payments
+ADD
+    CONSTRAINT chk_payments_status CHECK (status IN ('SUCCESS', 'FAILED'));
+
+ALTER TABLE
+    payments
+ADD
+    CONSTRAINT chk_payments_amount CHECK (amount >= 0);
+
+ALTER TABLE
+    refunds
+ADD
+    CONSTRAINT chk_refunds_status CHECK (status IN ('PENDING', 'SUCCESS', 'FAILED'));
+
+ALTER TABLE
+    refunds
+ADD
+    CONSTRAINT chk_refunds_amount CHECK (amount >= 0);
+
+-- 7) Replacements for the ON DELETE CASCADE foreign keys that partitioning rules out
+CREATE OR REPLACE FUNCTION bookings_delete_dependents() RETURNS TRIGGER AS $$
+BEGIN
+    DELETE FROM refunds WHERE booking_id = OLD.id;
+    DELETE FROM payments WHERE booking_id = OLD.id;
+    DELETE FROM tickets WHERE booking_id = OLD.id;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_bookings_delete_dependents AFTER DELETE ON bookings
+    FOR EACH ROW EXECUTE FUNCTION bookings_delete_dependents();
+
+CREATE OR REPLACE FUNCTION payments_delete_dependents() RETURNS TRIGGER AS $$
+BEGIN
+    DELETE FROM refunds WHERE payment_id = OLD.id;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_payments_delete_dependents AFTER DELETE ON payments
+    FOR EACH ROW EXECUTE FUNCTION payments_delete_dependents();
+
+COMMENT ON TABLE bookings IS 'Stores booking information for users and shows; partitioned by created_at month';
+
+COMMENT ON TABLE tickets IS 'Stores individual ticket information; partitioned by created_at month';
+
+COMMENT ON TABLE payments IS 'Stores payment information for bookings; partitioned by created_at month';
+
+COMMENT ON TABLE refunds IS 'Stores refund information for cancelled bookings; partitioned by created_at month';
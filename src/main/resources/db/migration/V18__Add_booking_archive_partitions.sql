@@ -0,0 +1,235 @@
+-- Cold storage for bookings, tickets, payments and refunds of closed and cancelled shows.
+--
+-- Each table becomes LIST-partitioned on a new archived flag:
+--   <table>_live     archived = false, the monthly RANGE partitions from V17
+--   <table>_archive  archived = true, one densely packed table
+-- The archiver flips archived, which moves rows between partitions, so the hot
+-- partitions' indexes only hold rows of shows that can still change. Every
+-- query against the parent tables keeps seeing archived rows, so history reads
+-- need no changes.
+--
+-- 1) Turn the V17 partitioned tables into the live subtree
+DO $$
+DECLARE
+    parent_table TEXT;
+    live_table TEXT;
+    child RECORD;
+    idx RECORD;
+BEGIN
+    FOREACH parent_table IN ARRAY ARRAY['bookings', 'tickets', 'payments', 'refunds'] LOOP
+        live_table := parent_table || '_live';
+
+        EXECUTE format('ALTER TABLE %I RENAME TO %I', parent_table, live_table);
+        EXECUTE format('ALTER TABLE %I ADD COLUMN archived BOOLEAN NOT NULL DEFAULT FALSE', live_table);
+        EXECUTE format('ALTER TABLE %I DROP CONSTRAINT %I', live_table, 'pk_' || parent_table);
+
+        -- Monthly partitions become <table>_live_pYYYYMM / <table>_live_default
+        FOR child IN
+            SELECT c.relname
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = live_table::regclass
+        LOOP
+            EXECUTE format('ALTER TABLE %I RENAME TO %I', child.relname,
+                    live_table || substr(child.relname, length(parent_table) + 1));
+        END LOOP;
+
+        -- Free the index names for the new parent
+        FOR idx IN SELECT indexname FROM pg_indexes WHERE tablename = live_table LOOP
+            EXECUTE format('ALTER INDEX %I RENAME TO %I', idx.indexname,
+                    replace(idx.indexname, 'idx_' || parent_table || '_', 'idx_' || live_table || '_'));
+        END LOOP;
+
+        EXECUTE format(
+            'CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS, CONSTRAINT %I PRIMARY KEY (id, created_at, archived)) '
+                || 'PARTITION BY LIST (archived)',
+            parent_table, live_table, 'pk_' || parent_table);
+        EXECUTE format('ALTER SEQUENCE %I OWNED BY %I.id', parent_table || '_id_seq', parent_table);
+    END LOOP;
+END;
+$$;
+
+-- Constraints and triggers move up to the new parents
+ALTER TABLE bookings_live DROP CONSTRAINT fk_bookings_user_id;
+ALTER TABLE bookings_live DROP CONSTRAINT fk_bookings_show_id;
+ALTER TABLE bookings_live DROP CONSTRAINT chk_bookings_status;
+ALTER TABLE bookings_live DROP CONSTRAINT chk_bookings_total_amount;
+ALTER TABLE tickets_live DROP CONSTRAINT fk_tickets_seat_id;
+ALTER TABLE tickets_live DROP CONSTRAINT chk_tickets_price;
+ALTER TABLE payments_live DROP CONSTRAINT chk_payments_status;
+ALTER TABLE payments_live DROP CONSTRAINT chk_payments_amount;
+ALTER TABLE refunds_live DROP CONSTRAINT chk_refunds_status;
+ALTER TABLE refunds_live DROP CONSTRAINT chk_refunds_amount;
+
+DROP TRIGGER trg_bookings_delete_dependents ON bookings_live;
+DROP TRIGGER trg_payments_delete_dependents ON payments_live;
+
+-- 2) Indexes on the new parents; attaching the live subtree adopts its matching indexes
+CREATE INDEX idx_bookings_user_id ON bookings(user_id);
+CREATE INDEX idx_bookings_show_id ON bookings(show_id);
+CREATE INDEX idx_bookings_status ON bookings(status);
+CREATE INDEX idx_bookings_total_amount ON bookings(total_amount);
+CREATE INDEX idx_bookings_created_at ON bookings(created_at);
+CREATE INDEX idx_bookings_updated_at ON bookings(updated_at);
+CREATE INDEX idx_bookings_user_status ON bookings(user_id, status);
+CREATE INDEX idx_bookings_show_status ON bookings(show_id, status);
+CREATE INDEX idx_bookings_user_created_at ON bookings(user_id, created_at);
+CREATE INDEX idx_bookings_status_created_at ON bookings(status, created_at);
+CREATE INDEX idx_bookings_show_created_at_id ON bookings(show_id, created_at, id);
+
+CREATE INDEX idx_tickets_booking_id ON tickets(booking_id);
+CREATE INDEX idx_tickets_seat_id ON tickets(seat_id);
+CREATE INDEX idx_tickets_price ON tickets(price);
+CREATE INDEX idx_tickets_created_at ON tickets(created_at);
+CREATE INDEX idx_tickets_updated_at ON tickets(updated_at);
+CREATE INDEX idx_tickets_booking_created_at ON tickets(booking_id, created_at);
+
+CREATE INDEX idx_payments_booking_id ON payments(booking_id);
+CREATE INDEX idx_payments_amount ON payments(amount);
+CREATE INDEX idx_payments_status ON payments(status);
+CREATE INDEX idx_payments_created_at ON payments(created_at);
+CREATE INDEX idx_payments_updated_at ON payments(updated_at);
+CREATE INDEX idx_payments_booking_status ON payments(booking_id, status);
+CREATE INDEX idx_payments_status_created_at ON payments(status, created_at);
+CREATE INDEX idx_payments_booking_created_at ON payments(booking_id, created_at);
+
+CREATE INDEX idx_refunds_payment_id ON refunds(payment_id);
+CREATE INDEX idx_refunds_booking_id ON refunds(booking_id);
+CREATE INDEX idx_refunds_status ON refunds(status);
+CREATE INDEX idx_refunds_amount ON refunds(amount);
+CREATE INDEX idx_refunds_processed_at ON refunds(processed_at);
+CREATE INDEX idx_refunds_created_at ON refunds(created_at);
+CREATE INDEX idx_refunds_payment_status ON refunds(payment_id, status);
+CREATE INDEX idx_refunds_booking_status ON refunds(booking_id, status);
+CREATE INDEX idx_refunds_status_created_at ON refunds(status, created_at);
+
+-- 3) Attach the live subtrees and add the archive partitions. Archived rows are
+-- never updated again, so they are packed with no free space left per page.
+ALTER TABLE bookings ATTACH PARTITION bookings_live FOR VALUES IN (FALSE);
+ALTER TABLE tickets ATTACH PARTITION tickets_live FOR VALUES IN (FALSE);
+ALTER TABLE payments ATTACH PARTITION payments_live FOR VALUES IN (FALSE);
+ALTER TABLE refunds ATTACH PARTITION refunds_live FOR VALUES IN (FALSE);
+
+CREATE TABLE bookings_archive PARTITION OF bookings FOR VALUES IN (TRUE) WITH (fillfactor = 100);
+CREATE TABLE tickets_archive PARTITION OF tickets FOR VALUES IN (TRUE) WITH (fillfactor = 100);
+CREATE TABLE payments_archive PARTITION OF payments FOR VALUES IN (TRUE) WITH (fillfactor = 100);
+CREATE TABLE refunds_archive PARTITION OF refunds FOR VALUES IN (TRUE) WITH (fillfactor = 100);
+
+ALTER TABLE
+    bookings
+ADD
+    CONSTRAINT fk_bookings_user_id FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE;
+
+ALTER TABLE
+    bookings
+ADD
+    CONSTRAINT fk_bookings_show_id FOREIGN KEY (show_id) REFERENCES shows(id) ON DELETE CASCADE;
+
+ALTER TABLE
+    bookings
+ADD
+    CONSTRAINT chk_bookings_status CHECK (
+        status IN ('CONFIRMED', 'CANCELLED', 'WAITLISTED')
+    );
+
+ALTER TABLE
+    bookings
+ADD
+    CONSTRAINT chk_bookings_total_amount CHECK (total_amount >= 0);
+
+ALTER TABLE
+    tickets
+ADD
+    CONSTRAINT fk_tickets_seat_id FOREIGN KEY (seat_id) REFERENCES seats(id) ON DELETE CASCADE;
+
+ALTER TABLE
+    tickets
+ADD
+    CONSTRAINT chk_tickets_price CHECK (price >= 0);
+
+ALTER TABLE
+    payments
+ADD
+    CONSTRAINT chk_payments_status CHECK (status IN ('SUCCESS', 'FAILED'));
+
+ALTER TABLE
+    payments
+ADD
+    CONSTRAINT chk_payments_amount CHECK (amount >= 0);
+
+ALTER TABLE
+    refunds
+ADD
+    CONSTRAINT chk_refunds_status CHECK (status IN ('PENDING', 'SUCCESS', 'FAILED'));
+
+ALTER TABLE
+    refunds
+ADD
+    CONSTRAINT chk_refunds_amount CHECK (amount >= 0);
+
+-- 4) Cascade triggers. Archiving moves a row between partitions, which Postgres
+-- runs as a delete plus an insert; a row that still exists was moved, not deleted.
+CREATE OR REPLACE FUNCTION bookings_delete_dependents() RETURNS TRIGGER AS $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM bookings WHERE id = OLD.id) THEN
+        RETURN OLD;
+    END IF;
+    DELETE FROM refunds WHERE booking_id = OLD.id;
+    DELETE FROM payments WHERE booking_id = OLD.id;
+    DELETE FROM tickets WHERE booking_id = OLD.id;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_bookings_delete_dependents AFTER DELETE ON bookings
+    FOR EACH ROW EXECUTE FUNCTION bookings_delete_dependents();
+
+CREATE OR REPLACE FUNCTION payments_delete_dependents() RETURNS TRIGGER AS $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM payments WHERE id = OLD.id) THEN
+        RETURN OLD;
+    END IF;
+    DELETE FROM refunds WHERE payment_id = OLD.id;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_payments_delete_dependents AFTER DELETE ON payments
+    FOR EACH ROW EXECUTE FUNCTION payments_delete_dependents();
+
+-- 5) Monthly partitions are now created under the live subtree
+CREATE OR REPLACE FUNCTION ensure_monthly_partitions(months_ahead INTEGER)
+RETURNS VOID AS $$
+DECLARE
+    parent_table TEXT;
+    month_offset INTEGER;
+BEGIN
+    FOREACH parent_table IN ARRAY ARRAY['bookings_live', 'tickets_live', 'payments_live', 'refunds_live'] LOOP
+        FOR month_offset IN 0..months_ahead LOOP
+            PERFORM create_monthly_partition(
+                parent_table,
+                (date_trunc('month', CURRENT_DATE) + make_interval(months => month_offset))::DATE
+            );
+        END LOOP;
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 6) Archive bookkeeping on shows
+ALTER TABLE shows ADD COLUMN archived_at TIMESTAMP WITH TIME ZONE;
+
+-- Finished shows still waiting for the archiver
+CREATE INDEX idx_shows_archive_pending ON shows(updated_at)
+WHERE
+    archived_at IS NULL
+    AND status IN ('CLOSED', 'CANCELLED');
+
+COMMENT ON COLUMN shows.archived_at IS 'When the show''s bookings, tickets, payments and refunds were moved to the archive partitions';
+
+COMMENT ON TABLE bookings IS 'Stores booking information for users and shows; live rows partitioned by created_at month, archived rows in bookings_archive';
+
+COMMENT ON TABLE tickets IS 'Stores individual ticket information; live rows partitioned by created_at month, archived rows in tickets_archive';
+
+COMMENT ON TABLE payments IS 'Stores payment information for bookings; live rows partitioned by created_at month, archived rows in payments_archive';
+
+COMMENT ON TABLE refunds IS 'Stores refund information for cancelled bookings; live rows partitioned by created_at month, archived rows in refunds_archive';
@@ -0,0 +1,45 @@
+-- Creating a monthly partition fails once the DEFAULT partition holds rows for
+-- that month, so a month missed by the maintenance job could never be added.
+-- create_monthly_partition now detaches the DEFAULT partition, creates the
+-- month, moves the month's rows out of DEFAULT and attaches it again, all in
+-- the caller's transaction.
+--
+-- Rows are moved while DEFAULT is detached, which drops the cascade triggers
+-- cloned from the parent, so moving a booking or payment deletes nothing else.
+CREATE OR REPLACE FUNCTION create_monthly_partition(parent_table TEXT, month_date DATE)
+RETURNS VOID AS $$
+DECLARE
+    month_start DATE := date_trunc('month', month_date)::DATE;
+    month_end DATE := (date_trunc('month', month_date) + INTERVAL '1 month')::DATE;
+    partition_name TEXT := parent_table || '_p' || to_char(month_start, 'YYYYMM');
+    default_name TEXT := parent_table || '_default';
+    has_default_rows BOOLEAN := FALSE;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('create_monthly_partition'));
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN;
+    END IF;
+
+    IF to_regclass(default_name) IS NOT NULL THEN
+        EXECUTE format('SELECT EXISTS (SELECT 1 FROM %I WHERE created_at >= %L AND created_at < %L)',
+                default_name, month_start, month_end)
+            INTO has_default_rows;
+    END IF;
+
+    IF NOT has_default_rows THEN
+        EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                partition_name, parent_table, month_start, month_end);
+        RETURN;
+    END IF;
+
+    RAISE NOTICE 'Moving % rows for % out of %', parent_table, to_char(month_start, 'YYYY-MM'), default_name;
+    EXECUTE format('ALTER TABLE %I DETACH PARTITION %I', parent_table, default_name);
+    EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+            partition_name, parent_table, month_start, month_end);
+    EXECUTE format(
+        'WITH moved AS (DELETE FROM %I WHERE created_at >= %L AND created_at < %L RETURNING *) '
+            || 'INSERT INTO %I SELECT * FROM moved',
+        default_name, month_start, month_end, partition_name);
+    EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I DEFAULT', parent_table, default_name);
+END;
+$$ LANGUAGE plpgsql;
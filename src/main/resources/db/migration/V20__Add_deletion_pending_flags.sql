@@ -0,0 +1,9 @@
+-- Set when a deletion job is queued for the venue or event; shows, reservations
+-- and bookings against it are rejected while the job removes its rows
+ALTER TABLE venues ADD COLUMN deletion_pending BOOLEAN NOT NULL DEFAULT FALSE;
+
+ALTER TABLE events ADD COLUMN deletion_pending BOOLEAN NOT NULL DEFAULT FALSE;
+
+COMMENT ON COLUMN venues.deletion_pending IS 'A deletion job for this venue is queued or running';
+
+COMMENT ON COLUMN events.deletion_pending IS 'A deletion job for this event is queued or running';
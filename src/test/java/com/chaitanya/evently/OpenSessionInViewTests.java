@@ -0,0 +1,223 @@
+package com.chaitanya.evently;
+
+import com.chaitanya.evently.controller.admin.AdminPaymentController;
+import com.chaitanya.evently.controller.admin.AdminRefundController;
+import com.chaitanya.evently.controller.admin.AdminShowController;
+import com.chaitanya.evently.controller.admin.AdminTicketController;
+import com.chaitanya.evently.controller.user.UserBookingWorkflowController;
+import com.chaitanya.evently.controller.user.UserPaymentController;
+import com.chaitanya.evently.controller.user.UserRefundController;
+import com.chaitanya.evently.controller.user.UserTicketController;
+import com.chaitanya.evently.dto.event.PaginationRequest;
+import com.chaitanya.evently.dto.show.ShowResponse;
+import com.chaitanya.evently.dto.show.ShowStatusUpdateRequest;
+import com.chaitanya.evently.model.Booking;
+import com.chaitanya.evently.model.Event;
+import com.chaitanya.evently.model.Payment;
+import com.chaitanya.evently.model.Refund;
+import com.chaitanya.evently.model.Seat;
+import com.chaitanya.evently.model.Show;
+import com.chaitanya.evently.model.Ticket;
+import com.chaitanya.evently.model.User;
+import com.chaitanya.evently.model.Venue;
+import com.chaitanya.evently.model.status.EventStatus;
+import com.chaitanya.evently.model.status.PaymentStatus;
+import com.chaitanya.evently.model.status.ShowStatus;
+import com.chaitanya.evently.repository.BookingRepository;
+import com.chaitanya.evently.repository.EventRepository;
+import com.chaitanya.evently.repository.PaymentRepository;
+import com.chaitanya.evently.repository.RefundRepository;
+import com.chaitanya.evently.repository.SeatRepository;
+import com.chaitanya.evently.repository.ShowRepository;
+import com.chaitanya.evently.repository.TicketRepository;
+import com.chaitanya.evently.repository.UserRepository;
+import com.chaitanya.evently.repository.VenueRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * With open-in-view off, every read path must fetch what its response needs
+ * inside the service: the controllers are called here without a surrounding
+ * transaction, so a lazy association left for the mapping step fails the test.
+ */
+@SpringBootTest
+class OpenSessionInViewTests {
+
+    @Autowired
+    private AdminTicketController adminTicketController;
+    @Autowired
+    private UserTicketController userTicketController;
+    @Autowired
+    private AdminPaymentController adminPaymentController;
+    @Autowired
+    private UserPaymentController userPaymentController;
+    @Autowired
+    private AdminRefundController adminRefundController;
+    @Autowired
+    private UserRefundController userRefundController;
+    @Autowired
+    private AdminShowController adminShowController;
+    @Autowired
+    private UserBookingWorkflowController userBookingWorkflowController;
+
+    @Autowired
+    private VenueRepository venueRepository;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private ShowRepository showRepository;
+    @Autowired
+    private SeatRepository seatRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private BookingRepository bookingRepository;
+    @Autowired
+    private TicketRepository ticketRepository;
+    @Autowired
+    private PaymentRepository paymentRepository;
+    @Autowired
+    private RefundRepository refundRepository;
+
+    private Venue venue;
+    private Event event;
+    private User user;
+    private Show show;
+    private Booking booking;
+    private Ticket ticket;
+    private Payment payment;
+    private Refund refund;
+
+    @BeforeEach
+    void seed() {
+        String suffix = UUID.randomUUID().toString();
+        venue = venueRepository.save(Venue.builder().name("osiv-venue-" + suffix).address("addr").build());
+
+        event = new Event();
+        event.setTitle("osiv-event-" + suffix);
+        event.setCategory("TEST");
+        event.setStatus(EventStatus.LIVE);
+        event = eventRepository.save(event);
+
+        user = userRepository.save(User.builder()
+                .fullName("osiv-user")
+                .email("osiv-" + suffix + "@example.com")
+                .password("secret")
+                .build());
+
+        show = showRepository.save(Show.builder()
+                .venue(venue)
+                .event(event)
+                .startTimestamp(Instant.now().plus(2, ChronoUnit.DAYS))
+                .durationMinutes(60)
+                .build());
+        Seat seat = seatRepository.save(Seat.builder().venue(venue).section("A").row("1").seatNumber("1").build());
+
+        booking = bookingRepository.save(Booking.builder()
+                .user(user)
+                .show(show)
+                .totalAmount(BigDecimal.TEN)
+                .build());
+        ticket = ticketRepository.save(Ticket.builder().booking(booking).seat(seat).price(BigDecimal.TEN).build());
+        payment = paymentRepository.save(Payment.builder()
+                .booking(booking)
+                .amount(BigDecimal.TEN)
+                .status(PaymentStatus.SUCCESS)
+                .build());
+        refund = refundRepository.save(Refund.builder()
+                .payment(payment)
+                .booking(booking)
+                .amount(BigDecimal.ONE)
+                .build());
+
+        assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isFalse();
+    }
+
+    @AfterEach
+    void cleanup() {
+        refundRepository.deleteById(refund.getId());
+        paymentRepository.deleteById(payment.getId());
+        ticketRepository.deleteById(ticket.getId());
+        bookingRepository.deleteById(booking.getId());
+        venueRepository.deleteById(venue.getId());
+        eventRepository.deleteById(event.getId());
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void ticketReadsMapOutsideTheTransaction() {
+        assertThat(adminTicketController.getTicketById(ticket.getId()).getBody()).containsKey("booking");
+        assertThat(userTicketController.getTicketById(ticket.getId(), userRequest()).getBody())
+                .containsKey("seat");
+        assertContent(adminTicketController.getTickets(page(), userRequest()));
+        assertContent(userTicketController.getTicketsByBookingId(booking.getId(), page(), userRequest()));
+    }
+
+    @Test
+    void paymentReadsMapOutsideTheTransaction() {
+        assertThat(adminPaymentController.getPaymentById(payment.getId()).getBody()).containsKey("booking");
+        assertThat(userPaymentController.getPaymentById(payment.getId(), userRequest()).getBody())
+                .containsEntry("bookingId", booking.getId());
+        assertContent(adminPaymentController.getPayments(page(), userRequest()));
+        assertContent(userPaymentController.getPayments(page(), userRequest()));
+        assertContent(userPaymentController.getPaymentsByShowId(show.getId(), page(), userRequest()));
+    }
+
+    @Test
+    void refundReadsMapOutsideTheTransaction() {
+        assertThat(adminRefundController.getRefundById(refund.getId()).getBody())
+                .containsEntry("paymentId", payment.getId());
+        assertThat(userRefundController.getRefundById(refund.getId(), userRequest()).getBody())
+                .containsEntry("paymentId", payment.getId());
+        assertContent(adminRefundController.getRefunds(page(), userRequest()));
+        assertContent(userRefundController.getRefunds(page(), userRequest()));
+        assertContent(userRefundController.getRefundsByShowId(show.getId(), page(), userRequest()));
+    }
+
+    @Test
+    void showStatusUpdateMapsOutsideTheTransaction() {
+        ShowResponse response = adminShowController.updateShowStatus(show.getId(),
+                ShowStatusUpdateRequest.builder().status(ShowStatus.CLOSED).build()).getBody();
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(ShowStatus.CLOSED.name());
+        assertThat(response.getVenue().getName()).isEqualTo(venue.getName());
+    }
+
+    @Test
+    void showSeatsMapOutsideTheTransaction() {
+        Map<String, Object> response = userBookingWorkflowController.getShowSeats(show.getId()).getBody();
+
+        assertThat(response).isNotNull().isNotEmpty();
+    }
+
+    private MockHttpServletRequest userRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/test");
+        request.addHeader("X-User-ID", user.getId().toString());
+        return request;
+    }
+
+    private static PaginationRequest page() {
+        return PaginationRequest.builder().build();
+    }
+
+    private static void assertContent(ResponseEntity<Map<String, Object>> response) {
+        assertThat(response.getBody()).isNotNull();
+        assertThat((List<?>) response.getBody().get("content")).isNotEmpty();
+    }
+}
@@ -0,0 +1,133 @@
+package com.chaitanya.evently;
+
+import com.chaitanya.evently.repository.TicketRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the created_at-bounded repository queries on the monthly
+ * partitioned booking tables only scan partitions from the bound onwards, and
+ * that a month's partition can still be created once DEFAULT holds its rows.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.chaitanya.evently.PartitionPruningTests$CapturingStatementInspector")
+class PartitionPruningTests {
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    private final List<String> createdPartitions = new ArrayList<>();
+
+    @AfterEach
+    void dropCreatedPartitions() {
+        for (String partition : createdPartitions) {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition);
+        }
+        CapturingStatementInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void boundedBookedSeatQueryPrunesOlderMonths() {
+        LocalDate oldMonth = LocalDate.now(ZoneOffset.UTC).minusYears(1).withDayOfMonth(1);
+        createPartition("bookings_live", oldMonth);
+        createPartition("tickets_live", oldMonth);
+
+        LocalDate currentMonth = LocalDate.now(ZoneOffset.UTC).withDayOfMonth(1);
+        Instant since = currentMonth.atStartOfDay(ZoneOffset.UTC).toInstant();
+        CapturingStatementInspector.STATEMENTS.clear();
+        ticketRepository.findBookedSeatIdsByShowId(1L, since);
+
+        String sql = CapturingStatementInspector.STATEMENTS.stream()
+                .filter(statement -> statement.contains("tickets"))
+                .reduce((first, last) -> last)
+                .orElseThrow();
+        // Parameters in SQL order: show id, then the two created_at bounds
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class,
+                1L, Timestamp.from(since), Timestamp.from(since)));
+
+        String oldSuffix = "_p" + oldMonth.format(PARTITION_SUFFIX);
+        String currentSuffix = "_p" + currentMonth.format(PARTITION_SUFFIX);
+        assertThat(plan).doesNotContain("tickets_live" + oldSuffix, "bookings_live" + oldSuffix);
+        assertThat(plan).contains("tickets_live" + currentSuffix, "bookings_live" + currentSuffix);
+    }
+
+    @Test
+    void missingMonthTakesItsRowsOutOfDefault() {
+        // refunds has no foreign keys, so a bare row is enough to land in DEFAULT
+        LocalDate missingMonth = LocalDate.now(ZoneOffset.UTC).minusYears(2).withDayOfMonth(1);
+        String partition = "refunds_live_p" + missingMonth.format(PARTITION_SUFFIX);
+        assertThat(jdbcTemplate.queryForObject("SELECT to_regclass(?)::text", String.class, partition)).isNull();
+
+        Timestamp createdAt = Timestamp.from(missingMonth.plusDays(3).atStartOfDay(ZoneOffset.UTC).toInstant());
+        Long refundId = jdbcTemplate.queryForObject(
+                "INSERT INTO refunds (payment_id, booking_id, amount, created_at) VALUES (0, 0, 1, ?) RETURNING id",
+                Long.class, createdAt);
+        try {
+            createPartition("refunds_live", missingMonth);
+
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + partition + " WHERE id = ?",
+                    Long.class, refundId)).isEqualTo(1);
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM refunds_live_default WHERE id = ?",
+                    Long.class, refundId)).isZero();
+        } finally {
+            jdbcTemplate.update("DELETE FROM refunds WHERE id = ?", refundId);
+        }
+    }
+
+    @Test
+    void futurePartitionsExist() {
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                        + "WHERE i.inhparent = 'bookings_live'::regclass",
+                String.class);
+
+        String nextMonth = "bookings_live_p" + LocalDate.now().plusMonths(1).format(PARTITION_SUFFIX);
+        assertThat(partitions).contains(nextMonth, "bookings_live_default");
+    }
+
+    /**
+     * Creates the month's partition if missing, remembering it so it is dropped
+     * again; existing partitions may hold real rows and are left alone.
+     */
+    private void createPartition(String parentTable, LocalDate month) {
+        String partition = parentTable + "_p" + month.format(PARTITION_SUFFIX);
+        if (jdbcTemplate.queryForObject("SELECT to_regclass(?)::text", String.class, partition) == null) {
+            createdPartitions.add(partition);
+        }
+        jdbcTemplate.execute("SELECT create_monthly_partition('" + parentTable + "', DATE '" + month + "')");
+    }
+
+    /**
+     * Records the SQL Hibernate generates, so the test explains what the
+     * repository actually sends rather than a hand-written copy.
+     */
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
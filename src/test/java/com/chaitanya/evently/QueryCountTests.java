@@ -0,0 +1,129 @@
+package com.chaitanya.evently;
+
+import com.chaitanya.evently.dto.event.PaginationRequest;
+import com.chaitanya.evently.model.Booking;
+import com.chaitanya.evently.model.Event;
+import com.chaitanya.evently.model.Show;
+import com.chaitanya.evently.model.User;
+import com.chaitanya.evently.model.Venue;
+import com.chaitanya.evently.model.status.EventStatus;
+import com.chaitanya.evently.repository.BookingRepository;
+import com.chaitanya.evently.repository.EventRepository;
+import com.chaitanya.evently.repository.ShowRepository;
+import com.chaitanya.evently.repository.UserRepository;
+import com.chaitanya.evently.repository.VenueRepository;
+import com.chaitanya.evently.service.BookingService;
+import com.chaitanya.evently.service.ShowService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards list endpoints against N+1 regressions: every page must be served by
+ * the content query plus, at most, its count query and one batched sales
+ * counter lookup (used when Redis does not have the counters).
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class QueryCountTests {
+
+    private static final int ROWS = 5;
+    private static final long MAX_STATEMENTS_PER_PAGE = 3;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private ShowService showService;
+    @Autowired
+    private BookingService bookingService;
+    @Autowired
+    private VenueRepository venueRepository;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private ShowRepository showRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    private Venue venue;
+    private Event event;
+    private User user;
+    private Show show;
+
+    @BeforeEach
+    void seed() {
+        String suffix = UUID.randomUUID().toString();
+        venue = venueRepository.save(Venue.builder().name("qc-venue-" + suffix).address("addr").build());
+
+        event = new Event();
+        event.setTitle("qc-event-" + suffix);
+        event.setCategory("TEST");
+        event.setStatus(EventStatus.LIVE);
+        event = eventRepository.save(event);
+
+        user = userRepository.save(User.builder()
+                .fullName("qc-user")
+                .email("qc-" + suffix + "@example.com")
+                .password("secret")
+                .build());
+
+        for (int i = 0; i < ROWS; i++) {
+            show = showRepository.save(Show.builder()
+                    .venue(venue)
+                    .event(event)
+                    .startTimestamp(Instant.now().plus(i + 2L, ChronoUnit.DAYS))
+                    .durationMinutes(60)
+                    .build());
+            bookingRepository.save(Booking.builder()
+                    .user(user)
+                    .show(show)
+                    .totalAmount(BigDecimal.valueOf(100L))
+                    .build());
+        }
+    }
+
+    @AfterEach
+    void cleanup() {
+        venueRepository.deleteById(venue.getId());
+        eventRepository.deleteById(event.getId());
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void showListsUseSingleJoinedQuery() {
+        PaginationRequest page = PaginationRequest.builder().sort("startTimestamp").build();
+
+        assertStatementCount(() -> showService.getShowsByVenueId(venue.getId(), page, "/test"));
+        assertStatementCount(() -> showService.getShowsByEventId(event.getId(), page, "/test"));
+        assertStatementCount(() -> showService.getShowsByVenueIdAndEventId(venue.getId(), event.getId(), page,
+                "/test"));
+    }
+
+    @Test
+    void bookingListsUseSingleJoinedQuery() {
+        PaginationRequest page = PaginationRequest.builder().build();
+
+        assertStatementCount(() -> bookingService.getBookingsByUserId(user.getId(), page, "/test"));
+        assertStatementCount(() -> bookingService.getBookingsByShowId(show.getId(), page, "/test"));
+    }
+
+    private void assertStatementCount(Runnable call) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        call.run();
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS_PER_PAGE);
+    }
+}
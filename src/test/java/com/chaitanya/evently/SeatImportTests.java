@@ -0,0 +1,94 @@
+package com.chaitanya.evently;
+
+import com.chaitanya.evently.dto.venue.SeatImportResponse;
+import com.chaitanya.evently.exception.types.BadRequestException;
+import com.chaitanya.evently.model.Venue;
+import com.chaitanya.evently.repository.SeatRepository;
+import com.chaitanya.evently.repository.VenueRepository;
+import com.chaitanya.evently.service.VenueService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * CSV seat import through COPY and the staging table: what is merged, what is
+ * skipped, and which records a rejection points at.
+ */
+@SpringBootTest
+class SeatImportTests {
+
+    @Autowired
+    private VenueService venueService;
+    @Autowired
+    private VenueRepository venueRepository;
+    @Autowired
+    private SeatRepository seatRepository;
+
+    private Venue venue;
+
+    @BeforeEach
+    void seed() {
+        venue = venueRepository.save(Venue.builder()
+                .name("import-venue-" + UUID.randomUUID())
+                .address("addr")
+                .build());
+    }
+
+    @AfterEach
+    void cleanup() {
+        venueRepository.deleteById(venue.getId());
+    }
+
+    @Test
+    void existingSeatsAreSkipped() {
+        venueService.importSeats(venue.getId(), csv("section,row,seat_number\nA,1,1\nA,1,2\n"), true);
+
+        SeatImportResponse response = venueService.importSeats(venue.getId(), csv("A,1,2\n A ,1,3\n"), false);
+
+        assertThat(response.getRowsRead()).isEqualTo(2);
+        assertThat(response.getSeatsCreated()).isEqualTo(1);
+        assertThat(response.getSeatsSkipped()).isEqualTo(1);
+        assertThat(response.getTotalCapacity()).isEqualTo(3);
+        assertThat(seatRepository.findByVenueIdAndSectionAndRowAndSeatNumber(venue.getId(), "A", "1", "3"))
+                .isPresent();
+    }
+
+    @Test
+    void badRowRejectsTheWholeImport() {
+        assertThatThrownBy(() -> venueService.importSeats(venue.getId(),
+                csv("section,row,seat_number\nA,1,1\nA,,2\n"), true))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("record 2: row is required");
+
+        assertThat(venueRepository.findById(venue.getId()).orElseThrow().getCapacity()).isZero();
+    }
+
+    @Test
+    void inFileDuplicateIsRejected() {
+        assertThatThrownBy(() -> venueService.importSeats(venue.getId(), csv("A,1,1\nB,1,1\nA,1,1\n"), false))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("record 3: duplicate seat A-1-1");
+    }
+
+    @Test
+    void multilineQuotedFieldCountsAsOneRecord() {
+        // The bad record is the second one but starts on the third physical line
+        assertThatThrownBy(() -> venueService.importSeats(venue.getId(), csv("\"Upper\nTier\",1,1\nA,1,\n"), false))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("record 2: seat_number is required");
+    }
+
+    private static InputStream csv(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,88 @@
+package com.chaitanya.evently;
+
+import com.chaitanya.evently.dto.seat.map.SeatMapRequest;
+import com.chaitanya.evently.model.Venue;
+import com.chaitanya.evently.repository.SeatRepository;
+import com.chaitanya.evently.repository.VenueRepository;
+import com.chaitanya.evently.service.VenueService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Times seat map creation for a 100k-seat venue, then re-submits it to time the
+ * all-conflicts path. Opt in with -Dbenchmark=true; needs a running database.
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@Slf4j
+class SeatMapBulkInsertBenchmarkTests {
+
+    private static final int SECTIONS = 10;
+    private static final int ROWS_PER_SECTION = 100;
+    private static final int SEATS_PER_ROW = 100;
+    private static final int TOTAL_SEATS = SECTIONS * ROWS_PER_SECTION * SEATS_PER_ROW;
+
+    @Autowired
+    private VenueService venueService;
+    @Autowired
+    private VenueRepository venueRepository;
+    @Autowired
+    private SeatRepository seatRepository;
+
+    private Venue venue;
+
+    @BeforeEach
+    void seed() {
+        venue = venueRepository.save(Venue.builder()
+                .name("bench-venue-" + UUID.randomUUID())
+                .address("addr")
+                .build());
+    }
+
+    @AfterEach
+    void cleanup() {
+        venueRepository.deleteById(venue.getId());
+    }
+
+    @Test
+    void createsHundredThousandSeats() {
+        SeatMapRequest request = seatMap();
+
+        long start = System.nanoTime();
+        venueService.createSeatMap(venue.getId(), request);
+        long createMillis = (System.nanoTime() - start) / 1_000_000;
+
+        start = System.nanoTime();
+        venueService.createSeatMap(venue.getId(), request);
+        long resubmitMillis = (System.nanoTime() - start) / 1_000_000;
+
+        log.info("Seat map benchmark: {} seats created in {} ms, re-submitted in {} ms",
+                TOTAL_SEATS, createMillis, resubmitMillis);
+
+        assertThat(seatRepository.countByVenueId(venue.getId())).isEqualTo(TOTAL_SEATS);
+        assertThat(venueRepository.findById(venue.getId()).orElseThrow().getCapacity()).isEqualTo(TOTAL_SEATS);
+    }
+
+    private SeatMapRequest seatMap() {
+        List<SeatMapRequest.Section> sections = new ArrayList<>();
+        for (int s = 1; s <= SECTIONS; s++) {
+            List<SeatMapRequest.Row> rows = new ArrayList<>();
+            for (int r = 1; r <= ROWS_PER_SECTION; r++) {
+                rows.add(SeatMapRequest.Row.builder().rowId("R" + r).seatCount(SEATS_PER_ROW).build());
+            }
+            sections.add(SeatMapRequest.Section.builder().sectionId("S" + s).rows(rows).build());
+        }
+        return SeatMapRequest.builder().sections(sections).build();
+    }
+}
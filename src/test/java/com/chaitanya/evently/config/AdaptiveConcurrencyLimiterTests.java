@@ -0,0 +1,72 @@
+package com.chaitanya.evently.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * How AdaptiveConcurrencyLimiter moves its limit and applies per-priority shares.
+ */
+class AdaptiveConcurrencyLimiterTests {
+
+    private static final long MS = 1_000_000;
+
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 200, 1.5, 0.2, 600);
+
+    @Test
+    void limitGrowsWhileLatencyIsSteadyAndBusy() {
+        for (int i = 0; i < 20; i++) {
+            limiter.onSample(10 * MS, limiter.getLimit());
+        }
+
+        assertThat(limiter.getLimit()).isGreaterThan(20);
+    }
+
+    @Test
+    void limitDoesNotGrowWhenMostPermitsAreIdle() {
+        for (int i = 0; i < 20; i++) {
+            limiter.onSample(10 * MS, 1);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    void limitShrinksWhenLatencyRises() {
+        for (int i = 0; i < 50; i++) {
+            limiter.onSample(10 * MS, 20);
+        }
+        int steady = limiter.getLimit();
+        for (int i = 0; i < 50; i++) {
+            limiter.onSample(100 * MS, limiter.getLimit());
+        }
+
+        assertThat(limiter.getLimit()).isLessThan(steady / 2).isGreaterThanOrEqualTo(4);
+    }
+
+    @Test
+    void limitShrinksEvenWhenMostPermitsAreIdle() {
+        for (int i = 0; i < 50; i++) {
+            limiter.onSample(10 * MS, 20);
+        }
+        int steady = limiter.getLimit();
+        for (int i = 0; i < 10; i++) {
+            limiter.onSample(100 * MS, 1);
+        }
+
+        assertThat(limiter.getLimit()).isLessThan(steady);
+    }
+
+    @Test
+    void lowerSharesAreShedFirst() {
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire(0.5)).isEqualTo(i);
+        }
+
+        assertThat(limiter.tryAcquire(0.5)).isEqualTo(-1);
+        assertThat(limiter.tryAcquire(1.0)).isEqualTo(10);
+
+        limiter.release();
+        assertThat(limiter.getInflight()).isEqualTo(10);
+    }
+}
@@ -0,0 +1,61 @@
+package com.chaitanya.evently.config;
+
+import com.chaitanya.evently.exception.types.ConflictException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Which completed requests ConcurrencyLimitInterceptor feeds to the limiter.
+ */
+class ConcurrencyLimitInterceptorTests {
+
+    private final ConcurrencyLimitInterceptor interceptor = new ConcurrencyLimitInterceptor(new SimpleMeterRegistry());
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(interceptor, "enabled", true);
+        ReflectionTestUtils.setField(interceptor, "initialLimit", 20);
+        ReflectionTestUtils.setField(interceptor, "minLimit", 4);
+        ReflectionTestUtils.setField(interceptor, "maxLimit", 200);
+        ReflectionTestUtils.setField(interceptor, "rttTolerance", 1.5);
+        ReflectionTestUtils.setField(interceptor, "smoothing", 0.2);
+        ReflectionTestUtils.setField(interceptor, "longRttWindow", 600);
+        ReflectionTestUtils.setField(interceptor, "reservationShare", 0.8);
+        ReflectionTestUtils.setField(interceptor, "browseShare", 0.5);
+        interceptor.init();
+        limiter = (AdaptiveConcurrencyLimiter) ReflectionTestUtils.getField(interceptor, "limiter");
+    }
+
+    @Test
+    void successfulBookingIsSampled() {
+        complete(200, null);
+
+        assertThat(limiter.getLongRttNanos()).isPositive();
+        assertThat(limiter.getInflight()).isZero();
+    }
+
+    @Test
+    void rejectedBookingsReleaseThePermitWithoutSampling() {
+        complete(429, null);
+        complete(409, new ConflictException("Seats already booked"));
+
+        assertThat(limiter.getLongRttNanos()).isZero();
+        assertThat(limiter.getInflight()).isZero();
+    }
+
+    private void complete(int status, Exception ex) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/user/booking");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(interceptor.preHandle(request, response, new Object())).isTrue();
+        response.setStatus(status);
+        interceptor.afterCompletion(request, response, new Object(), ex);
+    }
+}
@@ -0,0 +1,125 @@
+package com.chaitanya.evently.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Routing decisions of ReplicaRoutingDataSource, using stub data sources in
+ * place of real primary and replica databases.
+ */
+class ReplicaRoutingDataSourceTests {
+
+    private static final double MAX_LAG_SECONDS = 5;
+
+    @AfterEach
+    void resetTransactionState() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void readWriteTransactionsGoToPrimary() throws SQLException {
+        ReplicaRoutingDataSource router = router(Map.of("replica-1", replicaWithLag(0)));
+        router.refreshReplicaHealth();
+
+        assertThat(router.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void readOnlyTransactionsRoundRobinAcrossHealthyReplicas() throws SQLException {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", replicaWithLag(0));
+        replicas.put("replica-2", replicaWithLag(1));
+        ReplicaRoutingDataSource router = router(replicas);
+        router.refreshReplicaHealth();
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(router.determineCurrentLookupKey()).isEqualTo("replica-1");
+        assertThat(router.determineCurrentLookupKey()).isEqualTo("replica-2");
+        assertThat(router.determineCurrentLookupKey()).isEqualTo("replica-1");
+    }
+
+    @Test
+    void pinnedReadsGoToPrimaryInsideReadOnlyTransactions() throws SQLException {
+        ReplicaRoutingDataSource router = router(Map.of("replica-1", replicaWithLag(0)));
+        router.refreshReplicaHealth();
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(PrimaryRouting.call(router::determineCurrentLookupKey)).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        assertThat(router.determineCurrentLookupKey()).isEqualTo("replica-1");
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimary() throws SQLException {
+        ReplicaRoutingDataSource router = router(Map.of("replica-1", replicaWithLag(MAX_LAG_SECONDS + 1)));
+        router.refreshReplicaHealth();
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(router.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void unreachableReplicaFallsBackToPrimary() throws SQLException {
+        DataSource down = mock(DataSource.class);
+        when(down.getConnection()).thenThrow(new SQLException("Connection refused"));
+        ReplicaRoutingDataSource router = router(Map.of("replica-1", down));
+        router.refreshReplicaHealth();
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(router.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void replicasAreOutOfRotationUntilFirstHealthCheck() throws SQLException {
+        ReplicaRoutingDataSource router = router(Map.of("replica-1", replicaWithLag(0)));
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(router.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    private ReplicaRoutingDataSource router(Map<String, DataSource> replicas) {
+        ReplicaRoutingDataSource router = new ReplicaRoutingDataSource(mock(DataSource.class), replicas,
+                MAX_LAG_SECONDS);
+        router.afterPropertiesSet();
+        return router;
+    }
+
+    private static DataSource replicaWithLag(double lagSeconds) throws SQLException {
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(1);
+
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(resultSet.getDouble(1)).thenReturn(lagSeconds);
+
+        Statement statement = mock(Statement.class);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+
+        Connection connection = mock(Connection.class);
+        when(connection.createStatement()).thenReturn(statement);
+
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+}
@@ -0,0 +1,48 @@
+package com.chaitanya.evently.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SQL fingerprinting and hold-time accounting of RequestDbStats.
+ */
+class RequestDbStatsTests {
+
+    @Test
+    void fingerprintStripsLiteralsAndCollapsesInLists() {
+        String sql = "select * from tickets  where booking_id in (?, ?, ?)\n and price > 10.5 and status = 'it''s'";
+
+        assertThat(RequestDbStats.fingerprint(sql))
+                .isEqualTo("select * from tickets where booking_id in (?) and price > ? and status = ?");
+    }
+
+    @Test
+    void sameQueryShapeGroupsTogether() {
+        RequestDbStats stats = new RequestDbStats();
+        stats.statementExecuted(List.of("select * from seats where id = 1"), 3_000_000);
+        stats.statementExecuted(List.of("select * from seats where id = 2"), 2_000_000);
+        stats.statementExecuted(List.of("select * from shows where id = ?"), 1_000_000);
+
+        assertThat(stats.getStatements()).isEqualTo(3);
+        assertThat(stats.getDbNanos()).isEqualTo(6_000_000);
+        RequestDbStats.Fingerprint top = stats.topFingerprints(1).get(0);
+        assertThat(top.getSql()).isEqualTo("select * from seats where id = ?");
+        assertThat(top.getCount()).isEqualTo(2);
+        assertThat(top.getNanos()).isEqualTo(5_000_000);
+    }
+
+    @Test
+    void connectionsStillOpenAtFinishAreHeldUntilThen() {
+        RequestDbStats stats = new RequestDbStats();
+        stats.connectionAcquired("1", 100);
+        stats.connectionReleased("1", 400);
+        stats.connectionAcquired("2", 500);
+        stats.finish(1_000);
+
+        assertThat(stats.getConnections()).isEqualTo(2);
+        assertThat(stats.getHoldNanos()).isEqualTo(800);
+    }
+}
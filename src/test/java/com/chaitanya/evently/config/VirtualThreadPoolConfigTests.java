@@ -0,0 +1,41 @@
+package com.chaitanya.evently.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Which Hikari connection timeout applies with and without virtual threads.
+ */
+class VirtualThreadPoolConfigTests {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withUserConfiguration(VirtualThreadPoolConfig.class)
+            .withBean("dataSource", HikariDataSource.class, () -> {
+                HikariDataSource dataSource = new HikariDataSource();
+                dataSource.setConnectionTimeout(30_000);
+                return dataSource;
+            });
+
+    @Test
+    void platformThreadsKeepTheConfiguredTimeout() {
+        runner.run(context -> assertThat(context.getBean(HikariDataSource.class).getConnectionTimeout())
+                .isEqualTo(30_000));
+    }
+
+    @Test
+    void virtualThreadsFailFastByDefault() {
+        runner.withPropertyValues("spring.threads.virtual.enabled=true")
+                .run(context -> assertThat(context.getBean(HikariDataSource.class).getConnectionTimeout())
+                        .isEqualTo(5_000));
+    }
+
+    @Test
+    void explicitTimeoutWinsWithVirtualThreads() {
+        runner.withPropertyValues("spring.threads.virtual.enabled=true", "DB_CONNECTION_TIMEOUT_MS=30000")
+                .run(context -> assertThat(context.getBean(HikariDataSource.class).getConnectionTimeout())
+                        .isEqualTo(30_000));
+    }
+}
@@ -0,0 +1,31 @@
+package com.chaitanya.evently.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JSON shape of PaginationResponse that API clients depend on.
+ */
+class PaginationResponseTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void paginatedFlagIsSerializedOnceUnderItsOriginalKey() {
+        PaginationResponse<String> response = PaginationResponse.fromPage(
+                new PageImpl<>(List.of("a", "b"), PageRequest.of(0, 2), 5), "/api/v1/shows");
+
+        JsonNode json = objectMapper.valueToTree(response.map(String::toUpperCase));
+
+        assertThat(json.get("paginated").asBoolean()).isTrue();
+        assertThat(json.has("isPaginated")).isFalse();
+        assertThat(json.get("content")).hasSize(2);
+    }
+}
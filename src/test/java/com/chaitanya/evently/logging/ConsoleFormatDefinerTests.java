@@ -0,0 +1,31 @@
+package com.chaitanya.evently.logging;
+
+import ch.qos.logback.classic.LoggerContext;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Which console include ConsoleFormatDefiner picks for a configured format.
+ */
+class ConsoleFormatDefinerTests {
+
+    @Test
+    void knownFormatsAreKept() {
+        assertThat(define("json")).isEqualTo("json");
+        assertThat(define(" TEXT ")).isEqualTo("text");
+    }
+
+    @Test
+    void unknownOrMissingFormatFallsBackToText() {
+        assertThat(define("jsno")).isEqualTo(ConsoleFormatDefiner.FALLBACK);
+        assertThat(define(null)).isEqualTo(ConsoleFormatDefiner.FALLBACK);
+    }
+
+    private static String define(String format) {
+        ConsoleFormatDefiner definer = new ConsoleFormatDefiner();
+        definer.setContext(new LoggerContext());
+        definer.setFormat(format);
+        return definer.getPropertyValue();
+    }
+}
@@ -0,0 +1,104 @@
+package com.chaitanya.evently.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Which events SamplingTurboFilter lets through once a logger's budget is spent.
+ */
+class SamplingTurboFilterTests {
+
+    private static final String HOT_LOGGER = "com.chaitanya.evently.config.UserSecurityInterceptor";
+
+    private final LoggerContext context = new LoggerContext();
+    private SamplingTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new SamplingTurboFilter();
+        filter.setLoggers(HOT_LOGGER + ", com.chaitanya.evently.service");
+        filter.setPermitsPerSecond(2);
+        filter.start();
+    }
+
+    @Test
+    void infoBeyondBudgetIsDenied() {
+        Logger logger = context.getLogger(HOT_LOGGER);
+
+        assertThat(decide(logger, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(logger, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(logger, Level.INFO)).isEqualTo(FilterReply.DENY);
+        assertThat(filter.getSuppressed()).isEqualTo(1);
+    }
+
+    @Test
+    void suppressedEventsAreCountedForMetrics() {
+        context.addTurboFilter(filter);
+        Logger logger = context.getLogger(HOT_LOGGER);
+        for (int i = 0; i < 3; i++) {
+            decide(logger, Level.INFO);
+        }
+
+        assertThat(SamplingMetrics.suppressed(context)).isEqualTo(1);
+    }
+
+    @Test
+    void warningsErrorsAndStateTransitionsAlwaysPass() {
+        Logger logger = context.getLogger(HOT_LOGGER);
+        decide(logger, Level.INFO);
+        decide(logger, Level.INFO);
+
+        assertThat(decide(logger, Level.WARN)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(logger, Level.ERROR)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.decide(LogMarkers.STATE_TRANSITION, logger, Level.INFO, "Booking {} confirmed",
+                new Object[] { 1L }, null)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void childLoggersAreSampledButLookalikePrefixesAreNot() {
+        Logger child = context.getLogger("com.chaitanya.evently.service.BookingWorkflowService");
+        Logger sibling = context.getLogger("com.chaitanya.evently.serviceregistry.Other");
+        for (int i = 0; i < 2; i++) {
+            decide(child, Level.INFO);
+        }
+
+        assertThat(decide(child, Level.INFO)).isEqualTo(FilterReply.DENY);
+        for (int i = 0; i < 5; i++) {
+            assertThat(decide(sibling, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+        }
+    }
+
+    @Test
+    void enabledChecksDoNotUseThePermits() {
+        Logger logger = context.getLogger(HOT_LOGGER);
+        for (int i = 0; i < 5; i++) {
+            filter.decide(null, logger, Level.INFO, null, null, null);
+        }
+
+        assertThat(decide(logger, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void disabledDebugCallsDoNotUseThePermits() {
+        Logger logger = context.getLogger(HOT_LOGGER);
+        logger.setLevel(Level.INFO);
+        for (int i = 0; i < 5; i++) {
+            assertThat(decide(logger, Level.DEBUG)).isEqualTo(FilterReply.NEUTRAL);
+        }
+
+        assertThat(decide(logger, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(decide(logger, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.getSuppressed()).isZero();
+    }
+
+    private FilterReply decide(Logger logger, Level level) {
+        return filter.decide(null, logger, level, "Validating user access for request: {}", new Object[] { "/" },
+                null);
+    }
+}
@@ -0,0 +1,30 @@
+package com.chaitanya.evently.service;
+
+import com.chaitanya.evently.exception.types.BadRequestException;
+import com.chaitanya.evently.exception.types.ConflictException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * How BookingMetrics classifies workflow failures.
+ */
+class BookingMetricsTests {
+
+    @Test
+    void businessExceptionsAreRejections() {
+        assertThat(BookingMetrics.outcomeOf(new BadRequestException("Show is sold out")))
+                .isEqualTo(BookingMetrics.REJECTED);
+        assertThat(BookingMetrics.outcomeOf(new ConflictException("Seats already booked")))
+                .isEqualTo(BookingMetrics.REJECTED);
+    }
+
+    @Test
+    void wrappedFaultsAreErrors() {
+        BadRequestException wrapped = new BadRequestException("Payment processing failed: connection refused");
+        wrapped.initCause(new DataAccessResourceFailureException("connection refused"));
+
+        assertThat(BookingMetrics.outcomeOf(wrapped)).isEqualTo(BookingMetrics.ERROR);
+    }
+}
@@ -0,0 +1,93 @@
+package com.chaitanya.evently.service;
+
+import com.chaitanya.evently.model.DeletionJob;
+import com.chaitanya.evently.model.Venue;
+import com.chaitanya.evently.model.status.DeletionJobStatus;
+import com.chaitanya.evently.repository.DeletionJobRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Submission and shutdown behaviour of DeletionJobService, with the database
+ * mocked out.
+ */
+class DeletionJobServiceTests {
+
+    private static final long JOB_ID = 1L;
+
+    private final DeletionJobRepository deletionJobRepository = mock(DeletionJobRepository.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    @Test
+    void submitFlagsTheTargetAsDeletionPending() {
+        when(deletionJobRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        EntityCacheInvalidationService cacheInvalidation = mock(EntityCacheInvalidationService.class);
+        DeletionJobService service = new DeletionJobService(deletionJobRepository, jdbcTemplate, transactionManager,
+                cacheInvalidation, mock(CatalogCacheService.class), mock(SoldOutService.class),
+                mock(ShowSalesCounterService.class));
+        ReflectionTestUtils.setField(service, "concurrency", 1);
+        service.init();
+
+        service.submit(DeletionJob.TargetType.VENUE, 7L);
+        service.shutdown();
+
+        verify(jdbcTemplate).update("UPDATE venues SET deletion_pending = TRUE WHERE id = ?", 7L);
+        verify(cacheInvalidation).evictAndPublishAfterCommit(Venue.class, 7L);
+    }
+
+    @Test
+    void jobInterruptedAtShutdownStaysRunning() throws InterruptedException {
+        DeletionJob job = DeletionJob.builder()
+                .targetType(DeletionJob.TargetType.EVENT)
+                .targetId(5L)
+                .status(DeletionJobStatus.RUNNING)
+                .build();
+        when(deletionJobRepository.findStaleJobIds(any())).thenReturn(List.of(JOB_ID));
+        when(deletionJobRepository.claimStaleJob(eq(JOB_ID), any())).thenReturn(1);
+        when(deletionJobRepository.findById(JOB_ID)).thenReturn(Optional.of(job));
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        // The first chunk deletes rows, so the job then sleeps before the next one
+        CountDownLatch firstChunk = new CountDownLatch(1);
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+            firstChunk.countDown();
+            return 1;
+        });
+
+        DeletionJobService service = new DeletionJobService(deletionJobRepository, jdbcTemplate, transactionManager,
+                mock(EntityCacheInvalidationService.class), mock(CatalogCacheService.class),
+                mock(SoldOutService.class), mock(ShowSalesCounterService.class));
+        ReflectionTestUtils.setField(service, "chunkSize", 1);
+        ReflectionTestUtils.setField(service, "chunkPauseMs", 60_000L);
+        ReflectionTestUtils.setField(service, "concurrency", 1);
+        service.init();
+
+        service.resumeStaleJobs();
+        assertThat(firstChunk.await(5, TimeUnit.SECONDS)).isTrue();
+        service.shutdown();
+
+        ExecutorService executor = (ExecutorService) ReflectionTestUtils.getField(service, "executor");
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        verify(deletionJobRepository, never()).save(any());
+        assertThat(job.getStatus()).isEqualTo(DeletionJobStatus.RUNNING);
+    }
+}
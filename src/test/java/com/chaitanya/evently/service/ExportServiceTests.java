@@ -0,0 +1,115 @@
+package com.chaitanya.evently.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Row formatting and streaming of ExportService, with the cursor mocked out.
+ */
+class ExportServiceTests {
+
+    private static final Instant CREATED_AT = Instant.parse("2026-01-02T03:04:05Z");
+
+    @Test
+    void ndjsonWritesNumbersAsNumbers() throws Exception {
+        ResultSet rs = resultSet(List.of("id", "seat", "section", "ratio", "price", "paid", "created_at"),
+                new Object[] { 7L, 12, (short) 3, 0.5d, new BigDecimal("100.00"), true, Timestamp.from(CREATED_AT) });
+
+        String output = export(rs, ExportService.Format.NDJSON);
+
+        JsonNode row = new ObjectMapper().readTree(output.lines().findFirst().orElseThrow());
+        assertThat(row.get("id").isIntegralNumber()).isTrue();
+        assertThat(row.get("seat").asInt()).isEqualTo(12);
+        assertThat(row.get("section").isIntegralNumber()).isTrue();
+        assertThat(row.get("ratio").asDouble()).isEqualTo(0.5d);
+        assertThat(row.get("price").decimalValue()).isEqualByComparingTo("100.00");
+        assertThat(row.get("paid").isBoolean()).isTrue();
+        assertThat(row.get("created_at").asText()).isEqualTo(CREATED_AT.toString());
+    }
+
+    @Test
+    void csvNeutralizesFormulasButNotNegativeNumbers() throws Exception {
+        ResultSet rs = resultSet(List.of("full_name", "email", "amount", "note"),
+                new Object[] { "=HYPERLINK(\"x\")", "@evil", new BigDecimal("-5.00"), "-1+1" },
+                new Object[] { "Ann, Lee", "+1", -3L, null });
+
+        String output = export(rs, ExportService.Format.CSV);
+
+        assertThat(output.lines()).containsExactly(
+                "full_name,email,amount,note",
+                "\"'=HYPERLINK(\"\"x\"\")\",'@evil,-5.00,'-1+1",
+                "\"Ann, Lee\",'+1,-3,");
+    }
+
+    @Test
+    void rowsReachTheClientBeforeTheCursorIsExhausted() throws Exception {
+        int rows = 2_000;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        AtomicInteger bytesWrittenBeforeLastRow = new AtomicInteger(-1);
+
+        ResultSet rs = mock(ResultSet.class);
+        ResultSetMetaData metaData = metaData(List.of("booking_id", "email"));
+        when(rs.getMetaData()).thenReturn(metaData);
+        AtomicInteger position = new AtomicInteger();
+        when(rs.next()).thenAnswer(invocation -> {
+            if (position.get() == rows) {
+                bytesWrittenBeforeLastRow.set(out.size());
+                return false;
+            }
+            position.incrementAndGet();
+            return true;
+        });
+        when(rs.getObject(anyInt())).thenAnswer(invocation -> (int) invocation.getArgument(0) == 1
+                ? (long) position.get() : "user" + position.get() + "@example.com");
+
+        long written = ExportService.writeRows(rs, ExportService.Format.NDJSON, out);
+
+        assertThat(written).isEqualTo(rows);
+        // Flushed in buffer-sized pieces while reading, not held until the end
+        assertThat(bytesWrittenBeforeLastRow.get()).isPositive();
+        assertThat(out.toString(StandardCharsets.UTF_8).lines()).hasSize(rows);
+    }
+
+    private static String export(ResultSet rs, ExportService.Format format) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExportService.writeRows(rs, format, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static ResultSet resultSet(List<String> columns, Object[]... rows) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        ResultSetMetaData metaData = metaData(columns);
+        when(rs.getMetaData()).thenReturn(metaData);
+
+        AtomicInteger position = new AtomicInteger(-1);
+        when(rs.next()).thenAnswer(invocation -> position.incrementAndGet() < rows.length);
+        when(rs.getObject(anyInt()))
+                .thenAnswer(invocation -> rows[position.get()][(int) invocation.getArgument(0) - 1]);
+        return rs;
+    }
+
+    private static ResultSetMetaData metaData(List<String> columns) throws SQLException {
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(columns.size());
+        when(metaData.getColumnLabel(anyInt()))
+                .thenAnswer(invocation -> columns.get((int) invocation.getArgument(0) - 1));
+        return metaData;
+    }
+}
@@ -0,0 +1,44 @@
+package com.chaitanya.evently.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Refill, refund and drain behaviour of the rate limiter's local token bucket.
+ */
+class RateLimiterTokenBucketTests {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    @Test
+    void burstUpToCapacityThenRefillsOverTheWindow() {
+        RateLimiterService.TokenBucket bucket = new RateLimiterService.TokenBucket(2, Duration.ofSeconds(2), 0);
+
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isEqualTo(SECOND);
+        assertThat(bucket.tryAcquire(SECOND)).isZero();
+    }
+
+    @Test
+    void refundGivesTheTokenBack() {
+        RateLimiterService.TokenBucket bucket = new RateLimiterService.TokenBucket(1, Duration.ofSeconds(1), 0);
+
+        assertThat(bucket.tryAcquire(0)).isZero();
+        bucket.refund();
+        assertThat(bucket.tryAcquire(0)).isZero();
+    }
+
+    @Test
+    void drainHoldsOffUntilTheWaitHasPassed() {
+        RateLimiterService.TokenBucket bucket = new RateLimiterService.TokenBucket(10, Duration.ofSeconds(10), 0);
+
+        bucket.drain(0, 5 * SECOND);
+
+        assertThat(bucket.tryAcquire(4 * SECOND)).isEqualTo(SECOND);
+        assertThat(bucket.tryAcquire(5 * SECOND)).isZero();
+    }
+}
@@ -0,0 +1,44 @@
+package com.chaitanya.evently.service;
+
+import com.chaitanya.evently.repository.ShowSalesCounterRepository;
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Startup and periodic checks of the shared sold-out flags against the rollup.
+ */
+class SoldOutServiceTests {
+
+    private final ShowSalesCounterRepository showSalesCounterRepository = mock(ShowSalesCounterRepository.class);
+    private final RedisPubSubService redisPubSubService = mock(RedisPubSubService.class);
+    private final JedisPool jedisPool = mock(JedisPool.class);
+    private final Jedis jedis = mock(Jedis.class);
+
+    private final SoldOutService service = new SoldOutService(showSalesCounterRepository, redisPubSubService,
+            jedisPool);
+
+    @Test
+    void flagsTheRollupDoesNotConfirmAreDropped() {
+        when(jedisPool.getResource()).thenReturn(jedis);
+        // Show 2 was recreated after a reset and has sold nothing
+        when(jedis.hgetAll("sold_out_shows")).thenReturn(Map.of("1", "10", "2", "10"));
+        when(showSalesCounterRepository.findSoldOutShowIds(any())).thenReturn(List.of(1L));
+
+        service.loadSoldOutShows();
+
+        assertThat(service.isSoldOut(1L)).isTrue();
+        assertThat(service.isSoldOut(2L)).isFalse();
+        verify(jedis).hdel("sold_out_shows", "2");
+        verify(redisPubSubService).publish("evently:booking:sold-out", "AVAILABLE:2");
+    }
+}